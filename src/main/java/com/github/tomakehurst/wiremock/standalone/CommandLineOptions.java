@@ -47,6 +47,7 @@ import com.github.tomakehurst.wiremock.security.BasicAuthenticator;
 import com.github.tomakehurst.wiremock.security.NoAuthenticator;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.store.files.BodyFileCacheSettings;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.*;
@@ -56,6 +57,7 @@ import java.util.stream.Collectors;
 import joptsimple.OptionParser;
 import joptsimple.OptionSet;
 import org.wiremock.url.AbsoluteUrl;
+import org.wiremock.webhooks.WebhookDispatchSettings;
 
 public class CommandLineOptions implements Options {
 
@@ -99,16 +101,20 @@ public class CommandLineOptions implements Options {
   private static final String JETTY_IDLE_TIMEOUT = "jetty-idle-timeout";
   private static final String ROOT_DIR = "root-dir";
   private static final String CONTAINER_THREADS = "container-threads";
+  private static final String VIRTUAL_THREADS = "virtual-threads";
   private static final String GLOBAL_RESPONSE_TEMPLATING = "global-response-templating";
   private static final String LOCAL_RESPONSE_TEMPLATING = "local-response-templating";
   private static final String DISABLE_RESPONSE_TEMPLATING = "disable-response-templating";
   public static final String FILENAME_TEMPLATE = "filename-template";
+  private static final String MAPPINGS_SNAPSHOT = "mappings-snapshot";
   private static final String ADMIN_API_BASIC_AUTH = "admin-api-basic-auth";
   private static final String ADMIN_API_REQUIRE_HTTPS = "admin-api-require-https";
   private static final String ASYNCHRONOUS_RESPONSE_ENABLED = "async-response-enabled";
   private static final String ASYNCHRONOUS_RESPONSE_THREADS = "async-response-threads";
   private static final String USE_CHUNKED_ENCODING = "use-chunked-encoding";
   private static final String MAX_TEMPLATE_CACHE_ENTRIES = "max-template-cache-entries";
+  private static final String BODY_FILE_CACHE_SIZE = "body-file-cache-size";
+  private static final String BODY_FILE_MEMORY_MAP_THRESHOLD = "body-file-memory-map-threshold";
   private static final String PERMITTED_SYSTEM_KEYS = "permitted-system-keys";
   private static final String DISABLE_GZIP = "disable-gzip";
   private static final String DISABLE_REQUEST_LOGGING = "disable-request-logging";
@@ -126,11 +132,18 @@ public class CommandLineOptions implements Options {
   private static final String ALLOW_PROXY_TARGETS = "allow-proxy-targets";
   private static final String DENY_PROXY_TARGETS = "deny-proxy-targets";
   private static final String PROXY_TIMEOUT = "proxy-timeout";
+  private static final String PROXY_RESPONSE_STREAMING = "proxy-response-streaming";
+  private static final String ASYNC_HTTP_CLIENT = "async-http-client";
   private static final String MAX_HTTP_CLIENT_CONNECTIONS = "max-http-client-connections";
   private static final String DISABLE_CONNECTION_REUSE = "disable-connection-reuse";
   private static final String PROXY_PASS_THROUGH = "proxy-pass-through";
   private static final String SUPPORTED_PROXY_ENCODINGS = "supported-proxy-encodings";
   private static final String WEBHOOK_THREADPOOL_SIZE = "webhook-threadpool-size";
+  private static final String WEBHOOK_MAX_QUEUED = "webhook-max-queued";
+  private static final String WEBHOOK_OVERFLOW_POLICY = "webhook-overflow-policy";
+  private static final String WEBHOOK_MAX_CONCURRENT_PER_TARGET =
+      "webhook-max-concurrent-per-target";
+  private static final String WEBHOOK_VIRTUAL_THREADS = "webhook-virtual-threads";
   private static final String WEBSOCKET_IDLE_TIMEOUT = "websocket-idle-timeout";
   private static final String WEBSOCKET_MAX_TEXT_MESSAGE_SIZE = "websocket-max-text-message-size";
   private static final String WEBSOCKET_MAX_BINARY_MESSAGE_SIZE =
@@ -166,6 +179,10 @@ public class CommandLineOptions implements Options {
         .withRequiredArg();
     optionParser.accepts(BIND_ADDRESS, "The IP to listen connections").withRequiredArg();
     optionParser.accepts(CONTAINER_THREADS, "The number of container threads").withRequiredArg();
+    optionParser.accepts(
+        VIRTUAL_THREADS,
+        "Handle requests on virtual threads where the JVM supports them, so that delayed and"
+            + " dribbled responses do not hold a container thread");
     optionParser.accepts(TIMEOUT, "The default global timeout in milliseconds.").withRequiredArg();
     optionParser.accepts(
         DISABLE_OPTIMIZE_XML_FACTORIES_LOADING,
@@ -287,6 +304,10 @@ public class CommandLineOptions implements Options {
     optionParser.accepts(
         GLOBAL_RESPONSE_TEMPLATING, "Preprocess all responses with Handlebars templates");
     optionParser.accepts(FILENAME_TEMPLATE, "Add filename template").withRequiredArg();
+    optionParser.accepts(
+        MAPPINGS_SNAPSHOT,
+        "Keep a snapshot of the loaded stubs in the mappings directory and start from it while"
+            + " none of the mapping files have changed");
     optionParser.accepts(
         LOCAL_RESPONSE_TEMPLATING, "Preprocess selected responses with Handlebars templates");
     optionParser.accepts(
@@ -317,6 +338,19 @@ public class CommandLineOptions implements Options {
             MAX_TEMPLATE_CACHE_ENTRIES,
             "The maximum number of response template fragments that can be cached. Only has any effect when templating is enabled. Defaults to no limit.")
         .withOptionalArg();
+    optionParser
+        .accepts(
+            BODY_FILE_CACHE_SIZE,
+            "The maximum number of bytes of __files content to keep in memory between requests. Set"
+                + " to 0 to read body files from disk on every request. Defaults to 50MB.")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            BODY_FILE_MEMORY_MAP_THRESHOLD,
+            "Cached body files larger than this number of bytes are memory-mapped rather than held"
+                + " on the heap. Mapped files must not be truncated or replaced while WireMock is"
+                + " running. Defaults to 0, which never memory-maps.")
+        .withRequiredArg();
     optionParser
         .accepts(
             PERMITTED_SYSTEM_KEYS,
@@ -383,6 +417,16 @@ public class CommandLineOptions implements Options {
             DENY_PROXY_TARGETS,
             "Comma-separated list of IP addresses, IP ranges (hyphenated) and domain name wildcards that cannot be proxied to/recorded from. Is evaluated after the list of allowed addresses.")
         .withRequiredArg();
+    optionParser.accepts(
+        PROXY_RESPONSE_STREAMING,
+        "Pass proxied response bodies through to the client as they arrive instead of buffering"
+            + " them, keeping only what the journal and any transformers need. Bodies are still"
+            + " buffered in full unless --logged-response-body-size-limit is also set, since the"
+            + " journal otherwise keeps the whole body.");
+    optionParser.accepts(
+        ASYNC_HTTP_CLIENT,
+        "Make proxied requests with an asynchronous HTTP client that doesn't hold a request thread"
+            + " while waiting for the response and negotiates HTTP/2 with TLS upstreams");
     optionParser
         .accepts(PROXY_TIMEOUT, "Timeout in milliseconds for requests to proxy")
         .withRequiredArg();
@@ -405,6 +449,29 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(WEBHOOK_THREADPOOL_SIZE, "The size of the webhook thread pool")
         .withRequiredArg();
+    optionParser
+        .accepts(
+            WEBHOOK_MAX_QUEUED,
+            "The maximum number of webhooks that can be waiting to fire at once. Defaults to no"
+                + " limit.")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            WEBHOOK_OVERFLOW_POLICY,
+            "What to do with a webhook triggered when the webhook queue is full. Can be set to drop"
+                + " or block. Defaults to drop. Note that block holds the thread serving the"
+                + " triggering stub request, with no timeout, until the queue has room.")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            WEBHOOK_MAX_CONCURRENT_PER_TARGET,
+            "The maximum number of webhook requests in flight to the same host and port at once."
+                + " Defaults to no limit.")
+        .withRequiredArg();
+    optionParser.accepts(
+        WEBHOOK_VIRTUAL_THREADS,
+        "Make webhook requests on virtual threads, where the JVM supports them, rather than on the"
+            + " webhook thread pool");
     optionParser
         .accepts(
             WEBSOCKET_IDLE_TIMEOUT,
@@ -438,7 +505,7 @@ public class CommandLineOptions implements Options {
       fileSource = new SingleRootFileSource((String) optionSet.valueOf(ROOT_DIR));
     }
 
-    stores = new DefaultStores(fileSource);
+    stores = new DefaultStores(fileSource, getBodyFileCacheSettings());
 
     if (optionSet.has(PROXY_PASS_THROUGH)) {
       GlobalSettings newSettings =
@@ -457,7 +524,8 @@ public class CommandLineOptions implements Options {
         new JsonFileMappingsSource(
             fileSource.child(MAPPINGS_ROOT),
             fileSource.child(MESSAGE_MAPPINGS_ROOT),
-            filenameMaker);
+            filenameMaker,
+            optionSet.has(MAPPINGS_SNAPSHOT));
     buildExtensions();
 
     actualHttpPort = null;
@@ -823,6 +891,21 @@ public class CommandLineOptions implements Options {
     return DEFAULT_CONTAINER_THREADS;
   }
 
+  @Override
+  public boolean getProxyResponseStreamingEnabled() {
+    return optionSet.has(PROXY_RESPONSE_STREAMING);
+  }
+
+  @Override
+  public boolean getAsyncHttpClientEnabled() {
+    return optionSet.has(ASYNC_HTTP_CLIENT);
+  }
+
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    return optionSet.has(VIRTUAL_THREADS);
+  }
+
   @Override
   public String toString() {
     Map<String, Object> map = new LinkedHashMap<>();
@@ -1035,6 +1118,16 @@ public class CommandLineOptions implements Options {
         : DEFAULT_MAX_TEMPLATE_CACHE_ENTRIES;
   }
 
+  public BodyFileCacheSettings getBodyFileCacheSettings() {
+    return new BodyFileCacheSettings(
+        optionSet.has(BODY_FILE_CACHE_SIZE)
+            ? Long.parseLong((String) optionSet.valueOf(BODY_FILE_CACHE_SIZE))
+            : BodyFileCacheSettings.DEFAULT_MAX_SIZE,
+        optionSet.has(BODY_FILE_MEMORY_MAP_THRESHOLD)
+            ? Long.parseLong((String) optionSet.valueOf(BODY_FILE_MEMORY_MAP_THRESHOLD))
+            : BodyFileCacheSettings.DEFAULT_MEMORY_MAP_THRESHOLD);
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public Set<String> getTemplatePermittedSystemKeys() {
@@ -1079,6 +1172,22 @@ public class CommandLineOptions implements Options {
         : DEFAULT_WEBHOOK_THREADPOOL_SIZE;
   }
 
+  @Override
+  public WebhookDispatchSettings getWebhookDispatchSettings() {
+    return new WebhookDispatchSettings(
+        optionSet.has(WEBHOOK_MAX_QUEUED)
+            ? Integer.parseInt((String) optionSet.valueOf(WEBHOOK_MAX_QUEUED))
+            : 0,
+        optionSet.has(WEBHOOK_OVERFLOW_POLICY)
+            ? WebhookDispatchSettings.OverflowPolicy.valueOf(
+                ((String) optionSet.valueOf(WEBHOOK_OVERFLOW_POLICY)).toUpperCase(Locale.ROOT))
+            : WebhookDispatchSettings.OverflowPolicy.DROP,
+        optionSet.has(WEBHOOK_MAX_CONCURRENT_PER_TARGET)
+            ? Integer.parseInt((String) optionSet.valueOf(WEBHOOK_MAX_CONCURRENT_PER_TARGET))
+            : 0,
+        optionSet.has(WEBHOOK_VIRTUAL_THREADS));
+  }
+
   @Override
   public long getWebSocketIdleTimeout() {
     return optionSet.has(WEBSOCKET_IDLE_TIMEOUT)
@@ -253,6 +253,22 @@ class AdminApiTest extends AcceptanceTestBase {
     check.field("requests").hasSize(2);
   }
 
+  @Test
+  void streamsLoggedRequestsAsCompactJsonUnlessPrettyPrintingIsRequested() {
+    for (int i = 1; i <= 3; i++) {
+      testClient.get("/received-request/" + i);
+    }
+
+    WireMockResponse compact = testClient.get("/__admin/requests");
+    WireMockResponse pretty = testClient.get("/__admin/requests?pretty=true");
+
+    assertThat(compact.firstHeader("Content-Type"), is("application/json"));
+    assertThat(compact.content(), not(containsString("\n")));
+    assertThat(pretty.content(), containsString("\n"));
+    assertThat(Json.node(compact.content()), is(Json.node(pretty.content())));
+    JsonAssertion.assertThat(compact.content()).field("requests").hasSize(3);
+  }
+
   @Test
   void getLoggedRequestsWithLimitAndSinceDate() {
     for (int i = 1; i <= 5; i++) {
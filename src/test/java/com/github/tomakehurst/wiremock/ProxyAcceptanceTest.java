@@ -33,9 +33,12 @@ import com.github.tomakehurst.wiremock.common.NetworkAddressRules;
 import com.github.tomakehurst.wiremock.common.ProxySettings;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
 import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.testsupport.Network;
 import com.github.tomakehurst.wiremock.testsupport.TestHttpHeader;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
@@ -968,6 +971,136 @@ public class ProxyAcceptanceTest {
     assertThat(serveEvents.get(0).getResponse().isFromProxy(), is(false));
   }
 
+  @Test
+  void streamsProxiedResponseBodiesWhileJournallingOnlyTheLoggedPrefix() {
+    init(wireMockConfig().proxyResponseStreamingEnabled(true).maxLoggedResponseSize(10));
+
+    String body = "0123456789".repeat(100_000);
+    target.register(get(urlEqualTo("/large")).willReturn(ok(body)));
+    proxy.register(
+        get(urlEqualTo("/large")).willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    WireMockResponse response = testClient.get("/large");
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.content(), is(body));
+    assertThat(proxy.getServeEvents().get(0).getResponse().getBodyAsString(), is("0123456789"));
+  }
+
+  @Test
+  void journalsTheWholeStreamedBodyWhenNoLoggedResponseSizeLimitIsSet() {
+    init(wireMockConfig().proxyResponseStreamingEnabled(true));
+
+    String body = "abcdefghij".repeat(10_000);
+    target.register(get(urlEqualTo("/large")).willReturn(ok(body)));
+    proxy.register(
+        get(urlEqualTo("/large")).willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    WireMockResponse response = testClient.get("/large");
+
+    assertThat(response.content(), is(body));
+    assertThat(proxy.getServeEvents().get(0).getResponse().getBodyAsString(), is(body));
+  }
+
+  @Test
+  void releasesTheUpstreamConnectionWhenATransformerReplacesAStreamedBody() {
+    init(
+        wireMockConfig()
+            .proxyResponseStreamingEnabled(true)
+            .maxLoggedResponseSize(10)
+            .maxHttpClientConnections(1)
+            .extensions(
+                new ResponseTransformerV2() {
+                  @Override
+                  public Response transform(Response response, ServeEvent serveEvent) {
+                    return Response.Builder.like(response).body("Replaced").build();
+                  }
+
+                  @Override
+                  public String getName() {
+                    return "replace-body";
+                  }
+                }));
+
+    target.register(get(urlEqualTo("/large")).willReturn(ok("0123456789".repeat(100_000))));
+    proxy.register(
+        get(urlEqualTo("/large")).willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    for (int i = 0; i < 3; i++) {
+      WireMockResponse response = testClient.get("/large");
+      assertThat(response.statusCode(), is(200));
+      assertThat(response.content(), is("Replaced"));
+    }
+  }
+
+  @Test
+  void proxiesRequestsWithTheAsyncClient() {
+    init(wireMockConfig().asyncHttpClientEnabled(true));
+
+    target.register(
+        post(urlEqualTo("/async"))
+            .withRequestBody(equalTo("Request body"))
+            .willReturn(ok("Proxied content").withHeader("Content-Type", "text/plain")));
+    proxy.register(
+        post(urlEqualTo("/async")).willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
+
+    WireMockResponse response =
+        testClient.post("/async", new StringEntity("Request body", TEXT_PLAIN));
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.content(), is("Proxied content"));
+    assertThat(response.firstHeader("Content-Type"), is("text/plain"));
+    assertThat(
+        proxy.getServeEvents().get(0).getResponse().getBodyAsString(), is("Proxied content"));
+  }
+
+  @Test
+  void negotiatesHttp2WithTlsTargetsWhenUsingTheAsyncClient() {
+    init(wireMockConfig().asyncHttpClientEnabled(true));
+
+    target.register(get(urlEqualTo("/h2")).willReturn(ok("Proxied content")));
+    proxy.register(
+        get(urlEqualTo("/h2"))
+            .willReturn(aResponse().proxiedFrom("https://localhost:" + targetService.httpsPort())));
+
+    WireMockResponse response = testClient.get("/h2");
+
+    assertThat(response.content(), is("Proxied content"));
+    assertThat(targetService.getAllServeEvents().get(0).getRequest().getProtocol(), is("HTTP/2.0"));
+  }
+
+  @Test
+  void appliesDelaysToResponsesFromTheAsyncClient() {
+    init(wireMockConfig().asyncHttpClientEnabled(true));
+
+    target.register(get(urlEqualTo("/delayed")).willReturn(ok("Proxied content")));
+    proxy.register(
+        get(urlEqualTo("/delayed"))
+            .willReturn(aResponse().proxiedFrom(targetServiceBaseUrl).withFixedDelay(300)));
+
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    WireMockResponse response = testClient.get("/delayed");
+
+    assertThat(response.content(), is("Proxied content"));
+    assertThat(stopwatch.elapsed(MILLISECONDS), greaterThanOrEqualTo(300L));
+  }
+
+  @Test
+  void returnsANetworkFailureResponseWhenTheAsyncClientCannotReachTheTarget() {
+    init(wireMockConfig().asyncHttpClientEnabled(true));
+
+    proxy.register(
+        get(urlEqualTo("/unreachable"))
+            .willReturn(aResponse().proxiedFrom("http://localhost:" + Network.findFreePort())));
+
+    WireMockResponse response = testClient.get("/unreachable");
+
+    assertThat(response.statusCode(), is(500));
+    assertThat(
+        response.content(),
+        startsWith("Network failure trying to make a proxied request from WireMock to"));
+  }
+
   private void register200StubOnProxyAndTarget(String url) {
     target.register(get(urlEqualTo(url)).willReturn(aResponse().withStatus(200)));
     proxy.register(get(urlEqualTo(url)).willReturn(aResponse().proxiedFrom(targetServiceBaseUrl)));
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2025 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.client.apache5.ApacheHttpClientFactory;
@@ -110,6 +111,29 @@ public class ResponseDelayAsynchronousAcceptanceTest {
     }
   }
 
+  @Test
+  public void dribblesMoreResponsesAtOnceThanThereAreAsynchronousThreads() throws Exception {
+    String body = "chunked-body-to-return";
+    int dribbleDuration = 1000;
+    stubFor(
+        get("/delayed")
+            .willReturn(ok().withBody(body).withChunkedDribbleDelay(5, dribbleDuration)));
+
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    List<Future<TimedHttpResponse>> responses =
+        httpClientExecutor.invokeAll(getHttpRequestCallables(40));
+
+    for (Future<TimedHttpResponse> response : responses) {
+      TimedHttpResponse timedResponse = response.get();
+      assertThat(timedResponse.status, is(200));
+      assertThat(timedResponse.body, is(body));
+    }
+
+    // 10 threads sleeping between chunks would need at least 4 rounds of the full duration. All 40
+    // dribbling at once takes about one round, which leaves plenty of slack for a slow machine.
+    assertThat(stopwatch.elapsed(MILLISECONDS), lessThan(3L * dribbleDuration));
+  }
+
   private List<Callable<TimedHttpResponse>> getHttpRequestCallables(int requestCount) {
     List<Callable<TimedHttpResponse>> requests = new ArrayList<>();
     for (int i = 0; i < requestCount; i++) {
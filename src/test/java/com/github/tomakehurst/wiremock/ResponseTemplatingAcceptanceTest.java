@@ -25,6 +25,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.TemplateCacheStatistics;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.testsupport.TestFiles;
@@ -133,6 +135,26 @@ public class ResponseTemplatingAcceptanceTest {
       assertThat(client.get("/templated").content(), is("templated"));
     }
 
+    @Test
+    void reportsTemplateCacheStatisticsViaTheAdminApi() {
+      wm.stubFor(get(urlPathEqualTo("/cache-stats")).willReturn(ok("{{request.path.[0]}}")));
+      TemplateCacheStatistics before = fetchTemplateCacheStatistics();
+
+      client.get("/cache-stats");
+      client.get("/cache-stats");
+
+      TemplateCacheStatistics after = fetchTemplateCacheStatistics();
+      assertThat(after.getMissCount(), is(before.getMissCount() + 1));
+      assertThat(after.getHitCount(), is(before.getHitCount() + 1));
+      assertThat(after.getSize(), is(before.getSize() + 1));
+    }
+
+    private TemplateCacheStatistics fetchTemplateCacheStatistics() {
+      WireMockResponse response = client.get("/__admin/templates/cache");
+      assertThat(response.statusCode(), is(200));
+      return Json.read(response.content(), TemplateCacheStatistics.class);
+    }
+
     @Test
     public void copesWithBase64BodiesWithoutTemplateElements() {
       wm.stubFor(
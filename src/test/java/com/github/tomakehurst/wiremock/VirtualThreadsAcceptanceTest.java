@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsAcceptanceTest extends AcceptanceTestBase {
+
+  @BeforeAll
+  public static void setupServer() {
+    setupServer(new WireMockConfiguration().virtualThreadsEnabled(true));
+  }
+
+  @Test
+  public void servesDelayedAndDribbledResponsesConcurrently() throws Exception {
+    stubFor(get(urlEqualTo("/delayed")).willReturn(aResponse().withFixedDelay(200).withBody("a")));
+    stubFor(
+        get(urlEqualTo("/dribbled"))
+            .willReturn(aResponse().withBody("abcdefgh").withChunkedDribbleDelay(4, 200)));
+
+    ExecutorService executor = Executors.newFixedThreadPool(10);
+    try {
+      List<Future<WireMockResponse>> responses =
+          IntStream.range(0, 10)
+              .mapToObj(i -> i % 2 == 0 ? "/delayed" : "/dribbled")
+              .map(url -> executor.submit(() -> testClient.get(url)))
+              .collect(Collectors.toList());
+
+      for (Future<WireMockResponse> response : responses) {
+        assertThat(response.get().statusCode(), is(200));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
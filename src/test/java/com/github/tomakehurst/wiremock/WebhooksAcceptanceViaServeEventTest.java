@@ -31,6 +31,7 @@ import static org.wiremock.webhooks.Webhooks.webhook;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
+import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.NetworkAddressRules;
 import com.github.tomakehurst.wiremock.core.Admin;
 import com.github.tomakehurst.wiremock.extension.PostServeAction;
@@ -56,6 +57,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.wiremock.webhooks.WebhookDispatchStatistics;
 
 public class WebhooksAcceptanceViaServeEventTest extends WebhooksAcceptanceTest {
 
@@ -123,6 +125,30 @@ public class WebhooksAcceptanceViaServeEventTest extends WebhooksAcceptanceTest
     System.out.println("Under test server port: " + rule.getPort());
   }
 
+  @Test
+  public void reportsDispatchStatisticsViaTheAdminApi() throws Exception {
+    rule.stubFor(
+        post(urlPathEqualTo("/something-async"))
+            .willReturn(ok())
+            .withServeEventListener(
+                "webhook", webhook().withMethod(POST).withUrl(targetServer.url("/callback"))));
+    long firedBefore = fetchDispatchStatistics().getFired();
+
+    client.post("/something-async");
+    waitForRequestToTargetServer();
+
+    waitAtMost(5, SECONDS).until(() -> fetchDispatchStatistics().getFired(), is(firedBefore + 1));
+    WebhookDispatchStatistics statistics = fetchDispatchStatistics();
+    assertThat(statistics.getDropped(), is(0L));
+    assertThat(statistics.getMaxLatenessMillis(), greaterThanOrEqualTo(0.0));
+  }
+
+  private WebhookDispatchStatistics fetchDispatchStatistics() {
+    WireMockResponse response = client.get("/__admin/webhooks/dispatcher");
+    assertThat(response.statusCode(), is(200));
+    return Json.read(response.content(), WebhookDispatchStatistics.class);
+  }
+
   @Test
   public void firesASingleWebhookWhenRequested() throws Exception {
     rule.stubFor(
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.Test;
+
+public class PassThroughInputStreamSourceTest {
+
+  static final String BODY = "0123456789".repeat(5000);
+
+  @Test
+  void writesTheWholeBodyWhenNothingHasBeenReadFirst() throws IOException {
+    TrackingInputStream upstream = new TrackingInputStream(BODY);
+    PassThroughInputStreamSource source = new PassThroughInputStreamSource(upstream);
+
+    assertThat(writtenBody(source), is(BODY));
+    assertThat(upstream.closed, is(true));
+  }
+
+  @Test
+  void writesTheRetainedPrefixFollowedByTheRestOfTheBody() throws IOException {
+    TrackingInputStream upstream = new TrackingInputStream(BODY);
+    PassThroughInputStreamSource source = new PassThroughInputStreamSource(upstream);
+
+    try (InputStream stream = source.getStream()) {
+      assertThat(new String(stream.readNBytes(10), UTF_8), is("0123456789"));
+    }
+
+    assertThat(upstream.bytesRead < BODY.length(), is(true));
+    assertThat(writtenBody(source), is(BODY));
+  }
+
+  @Test
+  void canBeReadRepeatedlyBeforeBeingWritten() throws IOException {
+    TrackingInputStream upstream = new TrackingInputStream(BODY);
+    PassThroughInputStreamSource source = new PassThroughInputStreamSource(upstream);
+
+    try (InputStream stream = source.getStream()) {
+      assertThat(new String(stream.readAllBytes(), UTF_8), is(BODY));
+    }
+    assertThat(upstream.closed, is(true));
+
+    try (InputStream stream = source.getStream()) {
+      assertThat(new String(stream.readAllBytes(), UTF_8), is(BODY));
+    }
+    assertThat(writtenBody(source), is(BODY));
+  }
+
+  @Test
+  void cannotBeReadOnceItHasBeenWritten() throws IOException {
+    PassThroughInputStreamSource source =
+        new PassThroughInputStreamSource(new TrackingInputStream(BODY));
+
+    writtenBody(source);
+
+    assertThrows(IllegalStateException.class, source::getStream);
+    assertThrows(IllegalStateException.class, () -> writtenBody(source));
+  }
+
+  private static String writtenBody(PassThroughInputStreamSource source) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    source.writeTo(out);
+    return out.toString(UTF_8);
+  }
+
+  static class TrackingInputStream extends ByteArrayInputStream {
+
+    int bytesRead;
+    boolean closed;
+
+    TrackingInputStream(String body) {
+      super(body.getBytes(UTF_8));
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      int count = super.read(b, off, len);
+      if (count > 0) {
+        bytesRead += count;
+      }
+      return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+  }
+}
@@ -26,6 +26,8 @@ import static org.hamcrest.Matchers.is;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.Iterator;
+import java.util.Optional;
+import java.util.UUID;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
@@ -133,6 +135,50 @@ public class SortedConcurrentPrioritisableSetTest {
     assertThat(it.hasNext(), is(false));
   }
 
+  @Test
+  public void getsById() {
+    StubMapping one = mappingSet.add(aMapping(1, "/priority1/1"));
+    StubMapping two = mappingSet.add(aMapping(2, "/priority2/1"));
+
+    assertThat(mappingSet.get(one.getId()), is(Optional.of(one)));
+    assertThat(mappingSet.get(two.getId()), is(Optional.of(two)));
+    assertThat(mappingSet.get(UUID.randomUUID()), is(Optional.empty()));
+  }
+
+  @Test
+  public void doesNotGetByIdAfterRemove() {
+    StubMapping stubMapping = mappingSet.add(aMapping(1, "/priority1/1"));
+
+    assertThat(mappingSet.remove(stubMapping.getId()), is(true));
+
+    assertThat(mappingSet.get(stubMapping.getId()), is(Optional.empty()));
+    assertThat(mappingSet.remove(stubMapping.getId()), is(false));
+  }
+
+  @Test
+  public void getsReplacementById() {
+    StubMapping existingMapping = mappingSet.add(aMapping(1, "/priority1/1"));
+    StubMapping newMapping =
+        aMapping(1, "/priority1/2")
+            .transform(
+                b ->
+                    b.setId(existingMapping.getId())
+                        .setInsertionIndex(existingMapping.getInsertionIndex()));
+
+    mappingSet.replace(existingMapping, newMapping);
+
+    assertThat(mappingSet.get(existingMapping.getId()), is(Optional.of(newMapping)));
+  }
+
+  @Test
+  public void doesNotGetByIdAfterClear() {
+    StubMapping stubMapping = mappingSet.add(aMapping(1, "/priority1/1"));
+
+    mappingSet.clear();
+
+    assertThat(mappingSet.get(stubMapping.getId()), is(Optional.empty()));
+  }
+
   private StubMapping aMapping(Integer priority, String url) {
     RequestPattern requestPattern = newRequestPattern(ANY, urlEqualTo(url)).build();
 
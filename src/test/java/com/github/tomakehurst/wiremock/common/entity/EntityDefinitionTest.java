@@ -28,6 +28,7 @@ import static com.github.tomakehurst.wiremock.common.entity.Format.BINARY;
 import static com.github.tomakehurst.wiremock.common.entity.Format.JSON;
 import static com.github.tomakehurst.wiremock.common.entity.Format.TEXT;
 import static com.github.tomakehurst.wiremock.common.entity.Format.XML;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static net.javacrumbs.jsonunit.JsonMatchers.jsonEquals;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
@@ -40,7 +41,10 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.github.tomakehurst.wiremock.common.Encoding;
 import com.github.tomakehurst.wiremock.common.Gzip;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.WritableInputStreamSource;
+import java.io.ByteArrayOutputStream;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -599,4 +603,33 @@ public class EntityDefinitionTest {
 
     assertEquals(deserialised, built);
   }
+
+  @Test
+  void streamedJsonIsWrittenStraightToTheOutputStream() throws Exception {
+    StreamedJsonEntityDefinition definition =
+        EntityDefinition.streamedJson(Map.of("things", List.of(1, 2, 3)), Json.PublicView.class);
+    Entity entity = definition.resolve(null);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((WritableInputStreamSource) entity.getStreamSource()).writeTo(out);
+
+    assertThat(out.toString(UTF_8), is("{\"things\":[1,2,3]}"));
+    assertThat(entity.asString(), is("{\"things\":[1,2,3]}"));
+    assertThat(entity.getFormat(), is(JSON));
+    assertThat(definition.prettyPrinted().getDataAsString(), jsonEquals(out.toString(UTF_8)));
+  }
+
+  @Test
+  void bufferedEntityOnlyUsesTheFilledPartOfTheBuffer() {
+    byte[] buffer = new byte[32];
+    byte[] content = bytesFromString("{\"a\":1}", UTF_8);
+    System.arraycopy(content, 0, buffer, 0, content.length);
+
+    EntityDefinition definition = EntityDefinition.fromBuffer(buffer, content.length, JSON, UTF_8);
+
+    assertThat(definition.resolve(null).asString(), is("{\"a\":1}"));
+    assertThat(definition.getDataAsString(), is("{\"a\":1}"));
+    assertThat(definition.getDataAsBytes(), is(content));
+    assertEquals(EntityDefinition.builder().setFormat(JSON).setData(content).build(), definition);
+  }
 }
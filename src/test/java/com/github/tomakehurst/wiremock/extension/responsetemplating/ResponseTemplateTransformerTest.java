@@ -851,13 +851,78 @@ public class ResponseTemplateTransformerTest {
   }
 
   @Test
-  public void clearsTemplateCacheWhenAnyStubRemovedReset() {
-    transform("{{now}}");
-    assertThat(transformer.getCacheSize(), greaterThan(0L));
+  public void clearsOnlyTheRemovedStubsTemplatesFromTheCache() {
+    StubMapping removed = get("/removed").willReturn(ok("{{now}} removed")).build();
+    StubMapping kept = get("/kept").willReturn(ok("{{now}} kept")).build();
+    transform(serveEventFor(removed));
+    transform(serveEventFor(kept));
+    assertThat(transformer.getCacheSize(), is(2L));
 
-    transformer.afterStubRemoved(get(anyUrl()).build());
+    transformer.afterStubRemoved(removed);
 
-    assertThat(transformer.getCacheSize(), is(0L));
+    assertThat(transformer.getCacheSize(), is(1L));
+  }
+
+  @Test
+  public void clearsOnlyTheEditedStubsTemplatesFromTheCache() {
+    StubMapping edited = get("/edited").willReturn(ok("{{now}} edited")).build();
+    StubMapping untouched = get("/untouched").willReturn(ok("{{now}} untouched")).build();
+    transform(serveEventFor(edited));
+    transform(serveEventFor(untouched));
+
+    transformer.afterStubEdited(
+        edited, edited.transform(b -> b.setResponse(ok("{{now}} changed").build())));
+
+    assertThat(transformer.getCacheSize(), is(1L));
+  }
+
+  @Test
+  public void reportsCacheHitsMissesAndEvictions() {
+    transformer = ExtensionFactoryUtils.buildTemplateTransformer(1L);
+    StubMapping first = get("/first").willReturn(ok("{{now}} first")).build();
+    StubMapping second = get("/second").willReturn(ok("{{now}} second")).build();
+
+    transform(serveEventFor(first));
+    transform(serveEventFor(first));
+    transform(serveEventFor(second));
+
+    TemplateCacheStatistics statistics = transformer.getCacheStatistics();
+    assertThat(statistics.getHitCount(), is(1L));
+    assertThat(statistics.getMissCount(), is(2L));
+    assertThat(statistics.getEvictionCount(), is(1L));
+    assertThat(statistics.getSize(), is(1L));
+    assertThat(statistics.getMaxSize(), is(1L));
+  }
+
+  @Test
+  public void reusesTheCachedTemplateForRepeatedRequestsToTheSameStub() {
+    StubMapping stub = get("/things").willReturn(ok("{{request.path}}")).build();
+
+    transform(serveEventFor(stub));
+    String body = transform(serveEventFor(stub)).getBody();
+
+    assertThat(body, is("/"));
+    assertThat(transformer.getCacheSize(), is(1L));
+  }
+
+  @Test
+  public void doesNotServeATemplateCompiledFromAnEarlierVersionOfTheStub() {
+    StubMapping original = get("/things").willReturn(ok("original {{request.path}}")).build();
+    StubMapping edited =
+        original.transform(b -> b.setResponse(ok("edited {{request.path}}").build()));
+
+    transform(serveEventFor(original));
+    String body = transform(serveEventFor(edited)).getBody();
+
+    assertThat(body, is("edited /"));
+  }
+
+  @Test
+  public void rendersLargeMultiByteBodiesWithoutAlteringTheirContent() {
+    String row = "{\"name\": \"Ünïcödé ✓ 日本\", \"path\": \"{{request.path}}\"},\n";
+    String body = transform("[" + row.repeat(5_000) + "]");
+
+    assertThat(body, is("[" + row.replace("{{request.path}}", "/").repeat(5_000) + "]"));
   }
 
   @Test
@@ -1424,6 +1489,12 @@ public class ResponseTemplateTransformerTest {
     return transform(newPostMatchServeEvent(request, responseDefinitionBuilder, stub));
   }
 
+  private static ServeEvent serveEventFor(StubMapping stub) {
+    return ServeEvent.of(LoggedRequest.createFrom(mockRequest()))
+        .withStubMapping(stub)
+        .withResponseDefinition(stub.getResponse());
+  }
+
   private ResponseDefinition transform(ServeEvent serveEvent) {
     return transformer.transform(serveEvent);
   }
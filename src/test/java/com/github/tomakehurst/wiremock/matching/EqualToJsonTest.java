@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2023 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,13 +15,16 @@
  */
 package com.github.tomakehurst.wiremock.matching;
 
+import static com.github.tomakehurst.wiremock.common.RequestCache.Key.keyFor;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Errors;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.RequestCache;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
@@ -627,4 +630,26 @@ public class EqualToJsonTest {
             .get();
     assertThat(error.getDetail(), startsWith("Unexpected end-of-input"));
   }
+
+  @Test
+  void requestBodyIsParsedOnceAndSharedBetweenPatterns() {
+    RequestCache.onRequestEnd();
+    String body = "{ \"id\": 1, \"things\": [1, 2] }";
+    RequestCache.Key key = keyFor(JsonNode.class, "parsedJsonTree", body);
+
+    try {
+      assertTrue(
+          new EqualToJsonPattern("{ \"things\": [2, 1], \"id\": 1 }", true, false)
+              .match(body)
+              .isExactMatch());
+      JsonNode parsed = RequestCache.getCurrent().get(key);
+
+      assertFalse(new EqualToJsonPattern("{ \"id\": 2 }", false, true).match(body).isExactMatch());
+      assertTrue(new EqualToJsonPattern("{ \"id\": 1 }", false, true).match(body).isExactMatch());
+      assertThat(RequestCache.getCurrent().get(key), sameInstance(parsed));
+      assertThat(parsed, is(Json.read(body, JsonNode.class)));
+    } finally {
+      RequestCache.onRequestEnd();
+    }
+  }
 }
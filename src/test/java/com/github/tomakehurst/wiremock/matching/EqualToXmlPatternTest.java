@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -657,6 +657,44 @@ public class EqualToXmlPatternTest {
         message, startsWith("XML document structures must start and end within the same entity"));
   }
 
+  @Test
+  void patternsSharingAParsedRequestBodyMatchIndependently() {
+    RequestCache.onRequestEnd();
+    String body = "<body>\n  <!-- note -->\n  <entry>1</entry>\n</body>";
+
+    try {
+      EqualToXmlPattern matching = new EqualToXmlPattern("<body><entry>1</entry></body>");
+      EqualToXmlPattern notMatching = new EqualToXmlPattern("<body><entry>2</entry></body>");
+
+      assertTrue(matching.match(body).isExactMatch());
+      assertFalse(notMatching.match(body).isExactMatch());
+      assertTrue(matching.match(body).isExactMatch());
+      assertThat(matching.match(body).getDistance(), is(0.0));
+    } finally {
+      RequestCache.onRequestEnd();
+    }
+  }
+
+  @Test
+  void subEventIsReturnedForEachPatternWhenACachedBodyFailsToParse() {
+    RequestCache.onRequestEnd();
+
+    try {
+      MatchResult first = new EqualToXmlPattern("<things />").match("<wrong");
+      MatchResult second = new EqualToXmlPattern("<other />").match("<wrong");
+
+      assertThat(first.isExactMatch(), is(false));
+      assertThat(second.isExactMatch(), is(false));
+      assertThat(second.getSubEvents().size(), is(1));
+      String message =
+          second.getSubEvents().stream().findFirst().get().getData().get("message").toString();
+      assertThat(
+          message, startsWith("XML document structures must start and end within the same entity"));
+    } finally {
+      RequestCache.onRequestEnd();
+    }
+  }
+
   @Test
   void ignoreOrderOfSameNodeOnSameLevel() {
     EqualToXmlPattern pattern =
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2024 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,8 +26,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Json;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
@@ -330,6 +335,40 @@ public class MatchesXPathPatternTest {
         matchResult, WARNING, "Warning: failed to evaluate the XPath expression /\\!what?");
   }
 
+  @Test
+  void reportsErrorEachTimeAnInvalidXPathExpressionIsEvaluated() {
+    MatchesXPathPattern pattern = new MatchesXPathPattern("/\\!what?");
+    pattern.match("<things/>");
+
+    checkMessage(
+        pattern.match("<other-things/>"),
+        WARNING,
+        "Warning: failed to evaluate the XPath expression /\\!what?");
+  }
+
+  @Test
+  void reusesTheSamePatternAcrossDocumentsAndThreads() throws Exception {
+    MatchesXPathPattern pattern =
+        new MatchesXPathPattern("/s:stuff/s:thing[@id='1']", Map.of("s", "https://stuff.biz"));
+    String matching = "<stuff xmlns=\"https://stuff.biz\"><thing id=\"1\"/></stuff>";
+    String notMatching = "<stuff xmlns=\"https://stuff.biz\"><thing id=\"2\"/></stuff>";
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 40; i++) {
+        String xml = i % 2 == 0 ? matching : notMatching;
+        results.add(executor.submit(() -> pattern.match(xml).isExactMatch()));
+      }
+
+      for (int i = 0; i < results.size(); i++) {
+        assertThat(results.get(i).get(), is(i % 2 == 0));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void objectsShouldBeEqualOnSameExpectedValue() {
     MatchesXPathPattern a = new MatchesXPathPattern("/thing");
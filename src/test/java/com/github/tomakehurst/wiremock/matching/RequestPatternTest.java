@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,10 +55,12 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.github.tomakehurst.wiremock.client.BasicCredentials;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.http.FormParameter;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.junit5.EnabledIfJettyVersion;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -1145,6 +1147,94 @@ class RequestPatternTest {
         {"method": "ANY", "scheme": ""}"""));
   }
 
+  @ParameterizedTest
+  @MethodSource("patternsAndRequests")
+  public void exactMatchShortcutAgreesWithTheFullMatch(
+      RequestPattern pattern, MockRequest request) {
+    assertThat(
+        pattern.isMatchedBy(request, Map.of(), subEvent -> {}),
+        is(pattern.match(request).isExactMatch()));
+  }
+
+  private static Stream<Arguments> patternsAndRequests() {
+    RequestPattern everyPart =
+        newRequestPattern(POST, urlPathTemplate("/things/{id}"))
+            .withScheme("https")
+            .withHost(equalTo("my.host"))
+            .withPort(8443)
+            .withPathParam("id", equalTo("1"))
+            .withHeader("X-Thing", equalTo("one"))
+            .withQueryParam("q", equalTo("a"))
+            .withCookie("session", equalTo("abc"))
+            .withRequestBody(equalToJson("{\"id\": 1}"))
+            .build();
+
+    return Stream.of(
+        Arguments.of(everyPart, requestMatchingEveryPart()),
+        Arguments.of(everyPart, requestMatchingEveryPart().port(8080)),
+        Arguments.of(everyPart, mockRequest().method(POST).url("/things/1?q=a")),
+        Arguments.of(everyPart, requestMatchingEveryPart().url("/things/2?q=a")),
+        Arguments.of(everyPart, requestMatchingEveryPart().header("X-Thing", "two")),
+        Arguments.of(everyPart, requestMatchingEveryPart().body("{\"id\": 2}")),
+        Arguments.of(newRequestPattern(GET, urlEqualTo("/a")).build(), mockRequest().url("/a")),
+        Arguments.of(
+            newRequestPattern(PUT, urlEqualTo("/a")).build(), mockRequest().method(POST).url("/a")),
+        Arguments.of(
+            newRequestPattern(GET, urlEqualTo("/a"))
+                .withBasicAuth(new BasicCredentials("u", "p"))
+                .build(),
+            mockRequest().url("/a")));
+  }
+
+  private static MockRequest requestMatchingEveryPart() {
+    return mockRequest()
+        .method(POST)
+        .scheme("https")
+        .host("my.host")
+        .port(8443)
+        .url("/things/1?q=a")
+        .header("X-Thing", "one")
+        .cookie("session", "abc")
+        .body("{\"id\": 1}");
+  }
+
+  @ParameterizedTest
+  @MethodSource("patternsAndRequests")
+  public void distanceLowerBoundNeverExceedsTheActualDistance(
+      RequestPattern pattern, MockRequest request) {
+    assertThat(
+        pattern.distanceLowerBound(request),
+        Matchers.lessThanOrEqualTo(pattern.match(request).getDistance()));
+  }
+
+  @Test
+  public void distanceLowerBoundReflectsAMismatchedMethod() {
+    RequestPattern pattern = newRequestPattern(PUT, urlEqualTo("/a")).build();
+
+    assertThat(pattern.distanceLowerBound(mockRequest().method(PUT).url("/a")), is(0.0));
+    assertThat(
+        pattern.distanceLowerBound(mockRequest().method(POST).url("/a")),
+        is(pattern.match(mockRequest().method(POST).url("/a")).getDistance()));
+  }
+
+  @Test
+  public void exactMatchShortcutReportsTheSubEventsOfTheFailingPart() {
+    RequestPattern pattern =
+        newRequestPattern(POST, urlEqualTo("/json")).withRequestBody(equalToJson("{}")).build();
+    List<SubEvent> subEvents = new ArrayList<>();
+
+    boolean matched =
+        pattern.isMatchedBy(
+            mockRequest().method(POST).url("/json").body("not json"), Map.of(), subEvents::add);
+
+    assertFalse(matched);
+    List<SubEvent> fromFullMatch =
+        pattern.match(mockRequest().method(POST).url("/json").body("not json")).getSubEvents();
+    assertThat(subEvents.size(), is(1));
+    assertThat(fromFullMatch.size(), is(1));
+    assertTrue(subEvents.get(0).isEquivalentStandardTypedEventTo(fromFullMatch.get(0)));
+  }
+
   static Matcher<ContentPattern<?>> valuePattern(
       final Class<? extends StringValuePattern> patternClass, final String expectedValue) {
     return new TypeSafeDiagnosingMatcher<>() {
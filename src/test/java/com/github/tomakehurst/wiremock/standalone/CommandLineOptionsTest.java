@@ -44,6 +44,7 @@ import com.github.tomakehurst.wiremock.jetty.JettyHttpServerFactory;
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.security.Authenticator;
+import com.github.tomakehurst.wiremock.store.files.BodyFileCacheSettings;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
@@ -328,6 +329,12 @@ public class CommandLineOptionsTest {
     assertThat(options.containerThreads(), is(25));
   }
 
+  @Test
+  public void enablesVirtualThreadsWhenRequested() {
+    assertThat(new CommandLineOptions("--virtual-threads").getVirtualThreadsEnabled(), is(true));
+    assertThat(new CommandLineOptions().getVirtualThreadsEnabled(), is(false));
+  }
+
   @Test
   public void returnsCorrectlyParsedGlobalTimeout() {
     CommandLineOptions options = new CommandLineOptions("--timeout", "45000");
@@ -541,6 +548,43 @@ public class CommandLineOptionsTest {
     assertThat(options.getMaxTemplateCacheEntries(), is(DEFAULT_MAX_TEMPLATE_CACHE_ENTRIES));
   }
 
+  @Test
+  public void configuresTheBodyFileCache() {
+    CommandLineOptions options =
+        new CommandLineOptions(
+            "--body-file-cache-size", "1000000", "--body-file-memory-map-threshold", "50000");
+
+    BodyFileCacheSettings settings = options.getBodyFileCacheSettings();
+    assertThat(settings.isEnabled(), is(true));
+    assertThat(settings.getMaxSize(), is(1_000_000L));
+    assertThat(settings.isMemoryMapping(), is(true));
+    assertThat(settings.getMemoryMapThreshold(), is(50_000L));
+  }
+
+  @Test
+  public void bodyFileCacheDefaultsToOnWithoutMemoryMappingWhenNotSpecified() {
+    BodyFileCacheSettings settings = new CommandLineOptions().getBodyFileCacheSettings();
+
+    assertThat(settings.isEnabled(), is(true));
+    assertThat(settings.getMaxSize(), is(BodyFileCacheSettings.DEFAULT_MAX_SIZE));
+    assertThat(settings.isMemoryMapping(), is(false));
+  }
+
+  @Test
+  public void disablesTheBodyFileCacheWhenItsSizeIsZero() {
+    CommandLineOptions options = new CommandLineOptions("--body-file-cache-size", "0");
+
+    assertThat(options.getBodyFileCacheSettings().isEnabled(), is(false));
+  }
+
+  @Test
+  public void neverMemoryMapsBodyFilesWhenTheThresholdIsZero() {
+    CommandLineOptions options = new CommandLineOptions("--body-file-memory-map-threshold", "0");
+
+    assertThat(options.getBodyFileCacheSettings().isEnabled(), is(true));
+    assertThat(options.getBodyFileCacheSettings().isMemoryMapping(), is(false));
+  }
+
   @Test
   public void supportsAdminApiBasicAuth() {
     CommandLineOptions options = new CommandLineOptions("--admin-api-basic-auth", "user:pass");
@@ -869,6 +913,20 @@ public class CommandLineOptionsTest {
     assertThat(proxyTimeout, is(Options.DEFAULT_TIMEOUT));
   }
 
+  @Test
+  void proxyResponseStreaming() {
+    assertThat(
+        new CommandLineOptions("--proxy-response-streaming").getProxyResponseStreamingEnabled(),
+        is(true));
+    assertThat(new CommandLineOptions().getProxyResponseStreamingEnabled(), is(false));
+  }
+
+  @Test
+  void asyncHttpClient() {
+    assertThat(new CommandLineOptions("--async-http-client").getAsyncHttpClientEnabled(), is(true));
+    assertThat(new CommandLineOptions().getAsyncHttpClientEnabled(), is(false));
+  }
+
   @Test
   void webSocketIdleTimeout() {
     CommandLineOptions options = new CommandLineOptions("--websocket-idle-timeout", "60000");
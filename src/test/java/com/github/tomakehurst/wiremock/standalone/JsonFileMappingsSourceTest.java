@@ -15,11 +15,14 @@
  */
 package com.github.tomakehurst.wiremock.standalone;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.created;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.noContent;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static com.github.tomakehurst.wiremock.testsupport.TestFiles.filePath;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -27,6 +30,7 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.github.tomakehurst.wiremock.common.ClasspathFileSource;
+import com.github.tomakehurst.wiremock.common.InvalidInputException;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.NotWritableException;
 import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
@@ -37,8 +41,10 @@ import com.github.tomakehurst.wiremock.stubbing.StubMappings;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -269,4 +275,142 @@ class JsonFileMappingsSourceTest {
     assertTrue(maybeStub.isPresent());
     assertThat(maybeStub.get().getId().toString(), is("edf19376-0e08-4b27-8632-fb7852c9e62d"));
   }
+
+  @Test
+  void loadsManyMappingFilesInTheOrderTheyAreListed() throws Exception {
+    for (int i = 0; i < 500; i++) {
+      Files.writeString(
+          tempDir.toPath().resolve("stub-" + i + ".json"),
+          Json.write(get("/things/" + i).willReturn(ok()).build()));
+    }
+
+    load();
+
+    List<String> expectedUrls =
+        new SingleRootFileSource(tempDir)
+            .listFilesRecursively().stream()
+                .map(file -> Json.read(file.readContentsAsString(), StubMapping.class))
+                .map(stub -> stub.getRequest().getUrl())
+                .toList();
+    List<String> loadedUrls =
+        stubMappings.getAll().stream()
+            .sorted(Comparator.comparingLong(StubMapping::getInsertionIndex))
+            .map(stub -> stub.getRequest().getUrl())
+            .toList();
+    assertThat(loadedUrls, is(expectedUrls));
+  }
+
+  @Test
+  void loadsNoMappingsWhenTwoFilesShareAnId() throws Exception {
+    StubMapping stub = get("/duplicate").willReturn(ok()).build();
+    Files.writeString(tempDir.toPath().resolve("first.json"), Json.write(stub));
+    Files.writeString(tempDir.toPath().resolve("second.json"), Json.write(stub));
+    Files.writeString(
+        tempDir.toPath().resolve("third.json"),
+        Json.write(get("/unique").willReturn(ok()).build()));
+
+    InvalidInputException exception = assertThrows(InvalidInputException.class, this::load);
+
+    assertThat(exception.getErrors().first().getTitle(), is("Duplicate stub mapping ID"));
+    assertThat(stubMappings.getAll(), empty());
+  }
+
+  @Test
+  void reportsWhichFileCouldNotBeParsed() throws Exception {
+    Files.writeString(
+        tempDir.toPath().resolve("good.json"), Json.write(get("/good").willReturn(ok()).build()));
+    Files.writeString(tempDir.toPath().resolve("bad.json"), "{ \"request\": ");
+
+    MappingFileException exception = assertThrows(MappingFileException.class, this::load);
+
+    assertThat(exception.getMessage(), containsString("bad.json"));
+  }
+
+  @Test
+  void loadsTheSameStubsFromItsSnapshotAsFromTheMappingFiles() throws Exception {
+    Files.copy(
+        Paths.get(filePath("multi-stub/multi.json")), tempDir.toPath().resolve("multi.json"));
+    Files.writeString(
+        tempDir.toPath().resolve("patterns.json"),
+        Json.write(
+            post(urlPathMatching("/things/[0-9]+"))
+                .withRequestBody(equalToJson("{ \"name\": \"thing\" }"))
+                .withHeader("Accept", containing("json"))
+                .willReturn(created().withBody("made"))
+                .build()));
+
+    List<StubMapping> fromFiles = loadWithSnapshot();
+    assertTrue(Files.exists(tempDir.toPath().resolve(MappingsSnapshot.FILE_NAME)));
+
+    List<StubMapping> fromSnapshot = loadWithSnapshot();
+
+    assertThat(fromSnapshot, is(fromFiles));
+  }
+
+  @Test
+  void usesTheSnapshotWhileTheMappingFilesAreUnchanged() throws Exception {
+    Path mappingFile = tempDir.toPath().resolve("stub.json");
+    Files.writeString(mappingFile, Json.write(get("/aaaa").willReturn(ok()).build()));
+    loadWithSnapshot();
+
+    // Same size and modification time, so indistinguishable from the original
+    FileTime lastModified = Files.getLastModifiedTime(mappingFile);
+    Files.writeString(mappingFile, Files.readString(mappingFile).replace("/aaaa", "/bbbb"));
+    Files.setLastModifiedTime(mappingFile, lastModified);
+
+    assertThat(loadWithSnapshot().get(0).getRequest().getUrl(), is("/aaaa"));
+  }
+
+  @Test
+  void reloadsTheMappingFilesWhenOneHasChangedSinceTheSnapshot() throws Exception {
+    Path mappingFile = tempDir.toPath().resolve("stub.json");
+    Files.writeString(mappingFile, Json.write(get("/original").willReturn(ok()).build()));
+    loadWithSnapshot();
+
+    Files.writeString(mappingFile, Json.write(get("/changed/url").willReturn(ok()).build()));
+
+    assertThat(loadWithSnapshot().get(0).getRequest().getUrl(), is("/changed/url"));
+  }
+
+  @Test
+  void reloadsTheStubsItLoadedWithoutReadingTheUnchangedMappingFilesAgain() throws Exception {
+    Path mappingFile = tempDir.toPath().resolve("stub.json");
+    Files.writeString(mappingFile, Json.write(get("/aaaa").willReturn(ok()).build()));
+    load();
+
+    // Same size and modification time, so indistinguishable from the original
+    FileTime lastModified = Files.getLastModifiedTime(mappingFile);
+    Files.writeString(mappingFile, Files.readString(mappingFile).replace("/aaaa", "/bbbb"));
+    Files.setLastModifiedTime(mappingFile, lastModified);
+
+    stubMappings.reset();
+    source.loadMappingsInto(stubMappings);
+
+    assertThat(stubMappings.getAll().get(0).getRequest().getUrl(), is("/aaaa"));
+  }
+
+  @Test
+  void rereadsTheMappingFilesWhenOneHasChangedSinceTheyWereLoaded() throws Exception {
+    Path mappingFile = tempDir.toPath().resolve("stub.json");
+    Files.writeString(mappingFile, Json.write(get("/original").willReturn(ok()).build()));
+    load();
+
+    Files.writeString(mappingFile, Json.write(get("/changed/url").willReturn(ok()).build()));
+    Files.writeString(
+        tempDir.toPath().resolve("added.json"), Json.write(get("/added").willReturn(ok()).build()));
+
+    stubMappings.reset();
+    source.loadMappingsInto(stubMappings);
+
+    assertThat(
+        stubMappings.getAll().stream().map(stub -> stub.getRequest().getUrl()).toList(),
+        containsInAnyOrder("/changed/url", "/added"));
+  }
+
+  private List<StubMapping> loadWithSnapshot() {
+    StubMappings stubMappings = new InMemoryStubMappings();
+    new JsonFileMappingsSource(new SingleRootFileSource(tempDir), null, new FilenameMaker(), true)
+        .loadMappingsInto(stubMappings);
+    return stubMappings.getAll();
+  }
 }
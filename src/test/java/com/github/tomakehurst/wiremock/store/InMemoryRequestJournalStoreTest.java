@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.common.DataTruncationSettings.NO_TRUNCATION;
+import static com.github.tomakehurst.wiremock.http.ResponseDefinition.ok;
+import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
+import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryRequestJournalStoreTest {
+
+  private final InMemoryRequestJournalStore store = new InMemoryRequestJournalStore();
+
+  @Test
+  public void tracksSizeAsEventsAreAddedAndRemoved() {
+    ServeEvent one = anEvent("/one");
+    ServeEvent two = anEvent("/two");
+    ServeEvent three = anEvent("/three");
+
+    store.add(one);
+    store.add(two);
+    store.add(three);
+    assertThat(store.size(), is(3L));
+
+    store.remove(two.getId());
+    assertThat(store.size(), is(2L));
+
+    store.removeLast();
+    assertThat(store.size(), is(1L));
+    assertThat(store.getAllKeys().count(), is(1L));
+
+    store.clear();
+    assertThat(store.size(), is(0L));
+  }
+
+  @Test
+  public void removingAnUnknownOrAlreadyRemovedEventDoesNotChangeSize() {
+    ServeEvent one = anEvent("/one");
+    store.add(one);
+
+    store.remove(anEvent("/other").getId());
+    store.remove(one.getId());
+    store.remove(one.getId());
+    store.removeLast();
+
+    assertThat(store.size(), is(0L));
+  }
+
+  @Test
+  public void returnsEventsNewestFirst() {
+    ServeEvent one = anEvent("/one");
+    ServeEvent two = anEvent("/two");
+    ServeEvent three = anEvent("/three");
+
+    store.add(one);
+    store.add(two);
+    store.add(three);
+    store.remove(two.getId());
+
+    assertThat(store.getAll().toList(), contains(three, one));
+    assertThat(store.getAllKeys().toList(), contains(three.getId(), one.getId()));
+  }
+
+  @Test
+  public void evictsTheOldestLiveEventSkippingRemovedOnes() {
+    ServeEvent one = anEvent("/one");
+    ServeEvent two = anEvent("/two");
+    ServeEvent three = anEvent("/three");
+
+    store.add(one);
+    store.add(two);
+    store.add(three);
+    store.remove(one.getId());
+    store.removeLast();
+
+    assertThat(store.getAll().toList(), contains(three));
+    assertThat(store.get(two.getId()), is(Optional.empty()));
+  }
+
+  @Test
+  public void replacesOnlyEventsThatArePresent() {
+    ServeEvent one = anEvent("/one");
+    store.add(one);
+    ServeEvent completed = one.complete(Response.notConfigured(), NO_TRUNCATION);
+
+    store.put(one.getId(), completed);
+    store.remove(one.getId());
+    store.put(one.getId(), completed);
+
+    assertThat(store.get(one.getId()), is(Optional.empty()));
+    assertThat(store.size(), is(0L));
+  }
+
+  @Test
+  public void eventReAddedAfterRemovalOnlyAppearsOnce() {
+    ServeEvent one = anEvent("/one");
+    ServeEvent two = anEvent("/two");
+
+    store.add(one);
+    store.add(two);
+    store.remove(one.getId());
+    store.add(one);
+
+    assertThat(store.getAll().toList(), contains(one, two));
+    assertThat(store.size(), is(2L));
+  }
+
+  @Test
+  public void remainsConsistentAfterRemovingMostEvents() {
+    List<ServeEvent> events =
+        IntStream.range(0, 100).mapToObj(i -> anEvent("/" + i)).collect(Collectors.toList());
+    events.forEach(store::add);
+
+    events.stream()
+        .filter(event -> !event.getRequest().getUrl().endsWith("7"))
+        .forEach(event -> store.remove(event.getId()));
+
+    assertThat(store.size(), is(10L));
+    assertThat(store.getAll().count(), is(10L));
+    assertThat(
+        store.getAll().findFirst().map(e -> e.getRequest().getUrl()), is(Optional.of("/97")));
+  }
+
+  @Test
+  public void indexesUnmatchedEventsNewestFirst() {
+    ServeEvent one = anEvent("/one");
+    ServeEvent matched = aMatchedEvent("/two", aStub());
+    ServeEvent three = anEvent("/three");
+    ServeEvent four = anEvent("/four");
+
+    store.add(one);
+    store.add(matched);
+    store.add(three);
+    store.add(four);
+    store.remove(three.getId());
+    store.removeLast();
+
+    assertThat(store.getAllUnmatched().toList(), contains(four));
+  }
+
+  @Test
+  public void unmatchedIndexFollowsReplacedEvents() {
+    StubMapping stub = aStub();
+    ServeEvent event = anEvent("/one");
+    store.add(event);
+
+    store.put(event.getId(), event.withStubMapping(stub).withResponseDefinition(ok()));
+
+    assertThat(store.getAllUnmatched().toList(), empty());
+    assertThat(store.getStubHitCounts(), is(Map.of(stub.getId(), 1L)));
+  }
+
+  @Test
+  public void countsHitsPerStubAsEventsAreAddedAndRemoved() {
+    StubMapping first = aStub();
+    StubMapping second = aStub();
+    ServeEvent oldest = aMatchedEvent("/1", first);
+    ServeEvent removed = aMatchedEvent("/2", first);
+
+    store.add(oldest);
+    store.add(removed);
+    store.add(aMatchedEvent("/3", first));
+    store.add(aMatchedEvent("/4", second));
+    store.add(anEvent("/5"));
+    store.remove(removed.getId());
+    store.removeLast();
+
+    assertThat(store.getStubHitCounts(), is(Map.of(first.getId(), 1L, second.getId(), 1L)));
+
+    store.clear();
+    assertThat(store.getStubHitCounts(), is(Map.of()));
+    assertThat(store.getAllUnmatched().toList(), empty());
+  }
+
+  @Test
+  public void indexesAgreeWithAFullScan() {
+    List<StubMapping> stubs = IntStream.range(0, 5).mapToObj(i -> aStub()).toList();
+    List<ServeEvent> events =
+        IntStream.range(0, 200)
+            .mapToObj(i -> i % 3 == 0 ? anEvent("/" + i) : aMatchedEvent("/" + i, stubs.get(i % 5)))
+            .toList();
+    events.forEach(store::add);
+    events.stream()
+        .filter(e -> e.getRequest().getUrl().endsWith("1"))
+        .forEach(e -> store.remove(e.getId()));
+    IntStream.range(0, 30).forEach(i -> store.removeLast());
+
+    assertThat(
+        store.getAllUnmatched().toList(),
+        is(store.getAll().filter(ServeEvent::isNoExactMatch).toList()));
+    assertThat(
+        store.getStubHitCounts(),
+        is(
+            store
+                .getAll()
+                .filter(e -> e.getStubMapping() != null)
+                .collect(groupingBy(e -> e.getStubMapping().getId(), counting()))));
+  }
+
+  @Test
+  public void staysConsistentWhenEventsAreAddedAndRemovedConcurrently() throws Exception {
+    int threads = 8;
+    int eventsPerThread = 2000;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(
+            pool.submit(
+                () -> {
+                  for (int i = 0; i < eventsPerThread; i++) {
+                    ServeEvent event = anEvent("/" + i);
+                    store.add(event);
+                    if (i % 4 != 0) {
+                      store.remove(event.getId());
+                    }
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertThat(store.size(), is((long) threads * eventsPerThread / 4));
+    assertThat(store.getAll().count(), is(store.size()));
+
+    while (store.removeLast()) {}
+    assertThat(store.size(), is(0L));
+    assertThat(store.getAll().count(), is(0L));
+  }
+
+  @Test
+  public void reportsWhetherRemoveLastRemovedAnything() {
+    ServeEvent one = anEvent("/one");
+    ServeEvent two = anEvent("/two");
+    store.add(one);
+    store.add(two);
+    store.remove(one.getId());
+
+    assertThat(store.removeLast(), is(true));
+    assertThat(store.removeLast(), is(false));
+    assertThat(store.size(), is(0L));
+  }
+
+  private static ServeEvent anEvent(String url) {
+    return ServeEvent.of(createFrom(aRequest().withUrl(url).build()));
+  }
+
+  private static ServeEvent aMatchedEvent(String url, StubMapping stub) {
+    return anEvent(url).withStubMapping(stub).withResponseDefinition(ok());
+  }
+
+  private static StubMapping aStub() {
+    return StubMapping.builder().setRequest(RequestPattern.ANYTHING).build();
+  }
+}
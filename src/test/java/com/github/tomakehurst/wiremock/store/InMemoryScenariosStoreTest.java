@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryScenariosStoreTest {
+
+  private final InMemoryScenariosStore store = new InMemoryScenariosStore();
+
+  @Test
+  public void appliesConcurrentUpdatesToTheSameScenarioOneAtATime() throws Exception {
+    store.put("counter", scenarioInState("0"));
+
+    int threads = 8;
+    int updatesPerThread = 2000;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(
+            pool.submit(
+                () -> {
+                  for (int i = 0; i < updatesPerThread; i++) {
+                    store.compute(
+                        "counter",
+                        scenario ->
+                            scenarioInState(
+                                String.valueOf(Integer.parseInt(scenario.getState()) + 1)));
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertThat(
+        store.get("counter").map(Scenario::getState),
+        is(Optional.of(String.valueOf(threads * updatesPerThread))));
+  }
+
+  @Test
+  public void computingNullRemovesTheScenario() {
+    store.put("one", scenarioInState("0"));
+
+    Scenario result = store.compute("one", scenario -> null);
+
+    assertThat(result, is((Scenario) null));
+    assertThat(store.get("one"), is(Optional.empty()));
+  }
+
+  @Test
+  public void computeIsPassedNullForAMissingScenario() {
+    Scenario result =
+        store.compute("one", scenario -> scenario == null ? scenarioInState("new") : scenario);
+
+    assertThat(result.getState(), is("new"));
+    assertThat(store.get("one"), is(Optional.of(result)));
+  }
+
+  private static Scenario scenarioInState(String state) {
+    return new Scenario("counter", null, state, null, Set.of());
+  }
+}
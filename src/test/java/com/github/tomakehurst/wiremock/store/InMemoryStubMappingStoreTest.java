@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathTemplate;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.ANY;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryStubMappingStoreTest {
+
+  private final InMemoryStubMappingStore store = new InMemoryStubMappingStore();
+
+  @Test
+  public void onlyReturnsCandidatesThatCouldMatchTheRequestUrl() {
+    StubMapping exactUrl = store.add(aMapping(ANY, urlEqualTo("/things/1")));
+    store.add(aMapping(ANY, urlEqualTo("/things/2")));
+    StubMapping exactPath = store.add(aMapping(ANY, urlPathEqualTo("/things/1")));
+    store.add(aMapping(ANY, urlPathEqualTo("/other")));
+    StubMapping template = store.add(aMapping(ANY, urlPathTemplate("/things/{id}")));
+    store.add(aMapping(ANY, urlPathTemplate("/widgets/{id}")));
+    StubMapping get = store.add(aMapping(GET, urlMatching("/.*")));
+    store.add(aMapping(POST, urlMatching("/.*")));
+    StubMapping any = store.add(aMapping(ANY, anyUrl()));
+
+    List<StubMapping> candidates =
+        store.findCandidatesFor(mockRequest().method(GET).url("/things/1")).toList();
+
+    assertThat(candidates, contains(any, get, template, exactPath, exactUrl));
+  }
+
+  @Test
+  public void returnsMatchesInTheSameOrderAsAFullScan() {
+    store.add(aMapping(ANY, anyUrl(), 5));
+    store.add(aMapping(GET, urlPathTemplate("/things/{id}"), 1));
+    store.add(aMapping(ANY, urlEqualTo("/things/1?a=b"), 3));
+    store.add(aMapping(GET, urlMatching("/things/.*"), 1));
+    store.add(aMapping(ANY, urlPathEqualTo("/things/1"), 2));
+    store.add(aMapping(ANY, urlEqualTo("/things/1?a=b")));
+    store.add(aMapping(POST, urlPathEqualTo("/things/1"), 1));
+    store.add(aMapping(RequestMethod.isOneOf(GET, POST), anyUrl(), 3));
+
+    Request request = mockRequest().method(GET).url("/things/1?a=b");
+
+    List<StubMapping> fullScan =
+        store.getAll().filter(stub -> stub.getRequest().isMatchedBy(request, emptyMap())).toList();
+    List<StubMapping> indexed = store.findAllMatchingRequest(request, emptyMap(), e -> {}).toList();
+
+    assertThat(indexed, contains(fullScan.toArray()));
+  }
+
+  @Test
+  public void doesNotReturnRemovedStubs() {
+    StubMapping stub = store.add(aMapping(ANY, urlEqualTo("/things/1")));
+
+    store.remove(stub.getId());
+
+    assertThat(store.findCandidatesFor(mockRequest().url("/things/1")).toList(), empty());
+  }
+
+  @Test
+  public void reindexesStubWhenReplaced() {
+    StubMapping existing = store.add(aMapping(ANY, urlEqualTo("/things/1")));
+    StubMapping updated =
+        aMapping(ANY, urlEqualTo("/things/2"))
+            .transform(
+                b -> b.setId(existing.getId()).setInsertionIndex(existing.getInsertionIndex()));
+
+    store.replace(existing, updated);
+
+    assertThat(store.findCandidatesFor(mockRequest().url("/things/1")).toList(), empty());
+    assertThat(store.findCandidatesFor(mockRequest().url("/things/2")).toList(), contains(updated));
+  }
+
+  @Test
+  public void doesNotReturnStubsAfterClear() {
+    store.add(aMapping(ANY, urlEqualTo("/things/1")));
+    store.add(aMapping(ANY, anyUrl()));
+
+    store.clear();
+
+    assertThat(store.findCandidatesFor(mockRequest().url("/things/1")).toList(), empty());
+  }
+
+  @Test
+  public void caseInsensitiveUrlStubsAreNotExcluded() {
+    StubMapping stub =
+        store.add(aMapping(ANY, new UrlPattern(new EqualToPattern("/THINGS", true), false)));
+
+    assertThat(store.findCandidatesFor(mockRequest().url("/things")).toList(), contains(stub));
+  }
+
+  private static StubMapping aMapping(RequestMethod method, UrlPattern url) {
+    return aMapping(method, url, null);
+  }
+
+  private static StubMapping aMapping(RequestMethod method, UrlPattern url, Integer priority) {
+    return StubMapping.builder()
+        .setRequest(newRequestPattern(method, url).build())
+        .setPriority(priority)
+        .build();
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CachingFileSourceBlobStoreTest {
+
+  @TempDir Path root;
+
+  @Test
+  public void servesFromMemoryWhileTheFileIsUnchangedOnDisk() throws IOException {
+    CachingFileSourceBlobStore store = storeWith(BodyFileCacheSettings.DEFAULTS);
+    Path file = write("body.json", "original");
+    FileTime lastModified = Files.getLastModifiedTime(file);
+
+    assertThat(readStream(store, "body.json"), is("original"));
+
+    Files.writeString(file, "modified");
+    Files.setLastModifiedTime(file, lastModified);
+
+    assertThat(readStream(store, "body.json"), is("original"));
+  }
+
+  @Test
+  public void reloadsWhenTheFileChangesOnDisk() throws IOException {
+    CachingFileSourceBlobStore store = storeWith(BodyFileCacheSettings.DEFAULTS);
+    Path file = write("body.json", "original");
+    FileTime lastModified = Files.getLastModifiedTime(file);
+
+    assertThat(readStream(store, "body.json"), is("original"));
+
+    Files.writeString(file, "modified");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+
+    assertThat(readStream(store, "body.json"), is("modified"));
+  }
+
+  @Test
+  public void dropsCachedContentWhenWrittenOrRemovedThroughTheStore() throws IOException {
+    CachingFileSourceBlobStore store = storeWith(BodyFileCacheSettings.DEFAULTS);
+    write("body.json", "original");
+    assertThat(readStream(store, "body.json"), is("original"));
+
+    store.put("body.json", "replaced".getBytes(UTF_8));
+    assertThat(new String(store.get("body.json").orElseThrow(), UTF_8), is("replaced"));
+
+    store.remove("body.json");
+    assertThat(store.get("body.json"), is(Optional.empty()));
+    assertThat(store.getStream("body.json"), is(Optional.empty()));
+  }
+
+  @Test
+  public void servesMemoryMappedFilesAboveTheThreshold() throws IOException {
+    CachingFileSourceBlobStore store = storeWith(new BodyFileCacheSettings(10_000, 10));
+    String content = "0123456789".repeat(100);
+    write("large.txt", content);
+
+    assertThat(readStream(store, "large.txt"), is(content));
+    assertThat(readStream(store, "large.txt"), is(content));
+    assertThat(new String(store.get("large.txt").orElseThrow(), UTF_8), is(content));
+  }
+
+  @Test
+  public void keepsFilesThatTakeUpMostOfTheCache() throws IOException {
+    CachingFileSourceBlobStore store = storeWith(new BodyFileCacheSettings(100, 0));
+    Path file = write("large.txt", "0123456789".repeat(9));
+    FileTime lastModified = Files.getLastModifiedTime(file);
+
+    assertThat(readStream(store, "large.txt"), is("0123456789".repeat(9)));
+
+    Files.writeString(file, "abcdefghij".repeat(9));
+    Files.setLastModifiedTime(file, lastModified);
+
+    assertThat(readStream(store, "large.txt"), is("0123456789".repeat(9)));
+  }
+
+  @Test
+  public void readsFilesLargerThanTheWholeCacheFromDisk() throws IOException {
+    CachingFileSourceBlobStore store = storeWith(new BodyFileCacheSettings(10, 10));
+    write("large.txt", "more than ten bytes");
+
+    assertThat(readStream(store, "large.txt"), is("more than ten bytes"));
+
+    write("large.txt", "still more than ten");
+    assertThat(readStream(store, "large.txt"), is("still more than ten"));
+  }
+
+  private CachingFileSourceBlobStore storeWith(BodyFileCacheSettings settings) {
+    return new CachingFileSourceBlobStore(new SingleRootFileSource(root.toFile()), settings);
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(root.resolve(name), content);
+  }
+
+  private static String readStream(CachingFileSourceBlobStore store, String key)
+      throws IOException {
+    try (InputStream stream = store.getStream(key).orElseThrow()) {
+      return new String(stream.readAllBytes(), UTF_8);
+    }
+  }
+}
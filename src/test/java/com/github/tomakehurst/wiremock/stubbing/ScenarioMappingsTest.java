@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class ScenarioMappingsTest {
+
+  @Test
+  public void leavesEarlierVersionsUnchanged() {
+    StubMapping one = step("Started", "two");
+    StubMapping two = step("two", "three");
+    ScenarioMappings first = ScenarioMappings.empty().with(one);
+
+    ScenarioMappings added = first.with(two);
+    ScenarioMappings branched = first.without(one.getId());
+
+    assertThat(first.values(), contains(one));
+    assertThat(first.possibleStates(), containsInAnyOrder("Started", "two"));
+    assertThat(added.values(), contains(one, two));
+    assertThat(added.possibleStates(), containsInAnyOrder("Started", "two", "three"));
+    assertThat(branched.values(), empty());
+    assertThat(branched.possibleStates(), empty());
+    assertThat(branched.get(one.getId()), nullValue());
+  }
+
+  @Test
+  public void agreesWithALinkedHashMapUnderRandomAddsReplacesAndRemoves() {
+    Random random = new Random(42);
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      ids.add(UUID.randomUUID());
+    }
+    Map<UUID, StubMapping> expected = new LinkedHashMap<>();
+    ScenarioMappings mappings = ScenarioMappings.empty();
+
+    for (int i = 0; i < 5_000; i++) {
+      UUID id = ids.get(random.nextInt(ids.size()));
+      if (random.nextInt(3) == 0) {
+        expected.remove(id);
+        mappings = mappings.without(id);
+      } else {
+        StubMapping mapping = step("state-" + random.nextInt(10), "state-" + random.nextInt(10));
+        mapping = mapping.transform(b -> b.setId(id));
+        expected.put(id, mapping);
+        mappings = mappings.with(mapping);
+      }
+
+      assertThat(mappings.size(), is(expected.size()));
+    }
+
+    assertThat(new ArrayList<>(mappings.values()), is(new ArrayList<>(expected.values())));
+    Set<String> expectedStates = new HashSet<>();
+    expected
+        .values()
+        .forEach(
+            mapping -> {
+              expectedStates.add(mapping.getRequiredScenarioState());
+              expectedStates.add(mapping.getNewScenarioState());
+            });
+    assertThat(mappings.possibleStates(), is(expectedStates));
+  }
+
+  private static StubMapping step(String requiredState, String newState) {
+    return get("/steps")
+        .inScenario("steps")
+        .whenScenarioStateIs(requiredState)
+        .willSetStateTo(newState)
+        .willReturn(ok())
+        .build();
+  }
+}
@@ -442,4 +442,73 @@ public class ScenariosTest {
     assertThat(possibleStates, hasItems("A", "B", "C", "D"));
     assertThat(possibleStates.size(), is(4));
   }
+
+  @Test
+  public void replacesTheEarlierVersionOfAStubWhenItIsUpdatedWithinTheSameScenario() {
+    StubMapping original =
+        get("/scenarios/1")
+            .inScenario("one")
+            .whenScenarioStateIs(STARTED)
+            .willSetStateTo("old_step")
+            .willReturn(ok())
+            .build();
+    StubMapping updated = original.transform(b -> b.setNewScenarioState("new_step"));
+    scenarios.onStubMappingAdded(original);
+
+    scenarios.onStubMappingUpdated(original, updated);
+
+    Scenario scenario = scenarios.getByName("one");
+    assertThat(scenario.getMappings(), contains(updated));
+    assertThat(scenario.getPossibleStates(), containsInAnyOrder(STARTED, "new_step"));
+  }
+
+  @Test
+  public void listsMappingsInTheOrderTheyWereAdded() {
+    StubMapping first = scenarioStep("Started", "step_2");
+    StubMapping second = scenarioStep("step_2", "step_3");
+    StubMapping third = scenarioStep("step_3", "step_4");
+    scenarios.onStubMappingAdded(first);
+    scenarios.onStubMappingAdded(second);
+    scenarios.onStubMappingAdded(third);
+
+    StubMapping updatedSecond = second.transform(b -> b.setNewScenarioState("step_4"));
+    scenarios.onStubMappingUpdated(second, updatedSecond);
+
+    assertThat(scenarios.getByName("one").getMappings(), contains(first, updatedSecond, third));
+  }
+
+  @Test
+  public void reusesTheSameSnapshotUntilAScenarioChanges() {
+    StubMapping mapping =
+        get("/scenarios/1")
+            .inScenario("one")
+            .whenScenarioStateIs(STARTED)
+            .willSetStateTo("step_2")
+            .willReturn(ok())
+            .build();
+    scenarios.onStubMappingAdded(mapping);
+
+    ScenarioSnapshot first = scenarios.snapshot();
+    assertThat(scenarios.snapshot(), sameInstance(first));
+
+    scenarios.onStubServed(mapping);
+
+    ScenarioSnapshot afterTransition = scenarios.snapshot();
+    assertThat(afterTransition, not(sameInstance(first)));
+    assertThat(first.mappingMatchesScenarioState(mapping), is(true));
+    assertThat(afterTransition.mappingMatchesScenarioState(mapping), is(false));
+
+    scenarios.onStubServed(mapping);
+
+    assertThat(scenarios.snapshot(), sameInstance(afterTransition));
+  }
+
+  private static StubMapping scenarioStep(String requiredState, String newState) {
+    return get("/scenarios/1")
+        .inScenario("one")
+        .whenScenarioStateIs(requiredState)
+        .willSetStateTo(newState)
+        .willReturn(ok())
+        .build();
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,9 +34,11 @@ import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.stubbing.*;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -180,6 +182,36 @@ public class NearMissCalculatorTest {
     assertThat(nearest.get(1).getStubMapping().getRequest().getUrl(), is("/otherpath"));
   }
 
+  @Test
+  public void returnsTheSameNearMissesAsRankingEveryStubWhenThereAreManyStubs() {
+    MappingBuilder[] mappings =
+        IntStream.range(0, 5000)
+            .mapToObj(
+                i ->
+                    (i % 3 == 0
+                            ? post(urlEqualTo("/things/" + i))
+                            : get(urlEqualTo("/things/" + i)))
+                        .withName("stub-" + i)
+                        .willReturn(ok()))
+            .toArray(MappingBuilder[]::new);
+    givenStubMappings(mappings);
+    LoggedRequest request = mockRequest().method(GET).url("/things/42").asLoggedRequest();
+
+    List<String> expected =
+        stubMappings.getAll().stream()
+            .sorted(
+                Comparator.comparingDouble(stub -> stub.getRequest().match(request).getDistance()))
+            .limit(NEAR_MISS_COUNT)
+            .map(StubMapping::getName)
+            .collect(Collectors.toList());
+    List<String> nearest =
+        nearMissCalculator.findNearestTo(request).stream()
+            .map(nearMiss -> nearMiss.getStubMapping().getName())
+            .collect(Collectors.toList());
+
+    assertThat(nearest, is(expected));
+  }
+
   private void givenStubMappings(final MappingBuilder... mappingBuilders) {
     final List<StubMapping> mappings =
         Arrays.stream(mappingBuilders).map(MappingBuilder::build).collect(Collectors.toList());
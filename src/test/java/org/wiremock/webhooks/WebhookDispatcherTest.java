@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.webhooks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.wiremock.webhooks.WebhookDispatchSettings.OverflowPolicy;
+
+public class WebhookDispatcherTest {
+
+  private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+
+  @AfterEach
+  public void shutDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void dropsWebhooksTriggeredWhileTheQueueIsFull() {
+    WebhookDispatcher dispatcher =
+        new WebhookDispatcher(
+            scheduler, new WebhookDispatchSettings(2, OverflowPolicy.DROP, 0, false));
+
+    assertThat(dispatcher.dispatch("http://one:80", 60_000, () -> {}), is(true));
+    assertThat(dispatcher.dispatch("http://one:80", 60_000, () -> {}), is(true));
+    assertThat(dispatcher.dispatch("http://one:80", 60_000, () -> {}), is(false));
+
+    WebhookDispatchStatistics statistics = dispatcher.getStatistics();
+    assertThat(statistics.getQueued(), is(2));
+    assertThat(statistics.getDropped(), is(1L));
+  }
+
+  @Test
+  public void blocksTheTriggeringThreadUntilThereIsRoomWhenConfiguredTo() throws Exception {
+    WebhookDispatcher dispatcher =
+        new WebhookDispatcher(
+            scheduler, new WebhookDispatchSettings(1, OverflowPolicy.BLOCK, 0, false));
+    CountDownLatch firstFired = new CountDownLatch(1);
+    CountDownLatch secondFired = new CountDownLatch(1);
+
+    dispatcher.dispatch("http://one:80", 200, firstFired::countDown);
+    long startedAt = System.nanoTime();
+    dispatcher.dispatch("http://one:80", 0, secondFired::countDown);
+
+    assertThat(NANOSECONDS.toMillis(System.nanoTime() - startedAt), greaterThanOrEqualTo(150L));
+    assertTrue(firstFired.await(5, SECONDS));
+    assertTrue(secondFired.await(5, SECONDS));
+    assertThat(dispatcher.getStatistics().getDropped(), is(0L));
+  }
+
+  @Test
+  public void limitsConcurrentRequestsToTheSameTarget() {
+    WebhookDispatcher dispatcher =
+        new WebhookDispatcher(
+            scheduler, new WebhookDispatchSettings(0, OverflowPolicy.DROP, 1, false));
+    AtomicInteger current = new AtomicInteger();
+    AtomicInteger maxOverall = new AtomicInteger();
+
+    for (int i = 0; i < 6; i++) {
+      String target = i % 2 == 0 ? "http://one:80" : "http://two:80";
+      dispatcher.dispatch(
+          target,
+          0,
+          () -> {
+            int now = current.incrementAndGet();
+            maxOverall.accumulateAndGet(now, Math::max);
+            sleep(50);
+            current.decrementAndGet();
+          });
+    }
+
+    await().atMost(5, SECONDS).until(() -> dispatcher.getStatistics().getFired(), is(6L));
+    await().atMost(5, SECONDS).until(() -> dispatcher.getStatistics().getInFlight(), is(0));
+    assertThat(maxOverall.get(), is(2));
+  }
+
+  @Test
+  public void doesNotHoldASchedulerThreadWhileATargetIsSaturated() throws Exception {
+    ScheduledExecutorService twoThreads = Executors.newScheduledThreadPool(2);
+    try {
+      WebhookDispatcher dispatcher =
+          new WebhookDispatcher(
+              twoThreads, new WebhookDispatchSettings(0, OverflowPolicy.DROP, 1, false));
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch otherTargetFired = new CountDownLatch(1);
+
+      for (int i = 0; i < 3; i++) {
+        dispatcher.dispatch("http://slow:80", 0, () -> awaitQuietly(release));
+      }
+      await().atMost(5, SECONDS).until(() -> dispatcher.getStatistics().getInFlight(), is(1));
+      dispatcher.dispatch("http://fast:80", 0, otherTargetFired::countDown);
+
+      assertTrue(otherTargetFired.await(5, SECONDS));
+      assertThat(dispatcher.getStatistics().getQueued(), is(2));
+
+      release.countDown();
+      await().atMost(5, SECONDS).until(() -> dispatcher.getStatistics().getFired(), is(4L));
+    } finally {
+      twoThreads.shutdownNow();
+    }
+  }
+
+  @Test
+  public void forgetsTargetsOnceNothingIsInFlightOrWaitingForThem() {
+    WebhookDispatcher dispatcher =
+        new WebhookDispatcher(
+            scheduler, new WebhookDispatchSettings(0, OverflowPolicy.DROP, 1, false));
+
+    for (int i = 0; i < 20; i++) {
+      dispatcher.dispatch("http://host-" + i + ":80", 0, () -> sleep(10));
+    }
+
+    await().atMost(5, SECONDS).until(() -> dispatcher.getStatistics().getFired(), is(20L));
+    await().atMost(5, SECONDS).until(dispatcher::getTrackedTargetCount, is(0));
+  }
+
+  @Test
+  public void firesOnVirtualThreadsOnlyWhereTheJvmSupportsThem() throws Exception {
+    WebhookDispatcher dispatcher =
+        new WebhookDispatcher(
+            scheduler, new WebhookDispatchSettings(0, OverflowPolicy.DROP, 0, true));
+    CountDownLatch fired = new CountDownLatch(1);
+
+    dispatcher.dispatch("http://one:80", 0, fired::countDown);
+
+    assertTrue(fired.await(5, SECONDS));
+    assertThat(
+        dispatcher.getStatistics().isVirtualThreads(), is(Runtime.version().feature() >= 21));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(10, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingXPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathTemplate;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.direct.DirectCallHttpServer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the whole per-request stub serving pipeline by calling {@link StubRequestHandler#handle}
+ * directly, with no sockets involved: request filtering, matching in {@link
+ * com.github.tomakehurst.wiremock.stubbing.StubMappings#serveFor}, response rendering, templating
+ * and journalling.
+ *
+ * <p>Every stub in a fixture uses the same kind of matcher, and the request targets the stub in the
+ * middle of the insertion order, so that roughly half of the candidates the index returns have to
+ * be evaluated before the match is found.
+ *
+ * <p>Results are written as JSON by the jmh task, e.g. {@code ./gradlew :wiremock-core:jmhRun
+ * --args="StubServingBenchmark -rf json -rff stub-serving.json"}, so that runs can be diffed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StubServingBenchmark {
+
+  /** Stubs that only differ in body or header matchers share one of this many paths. */
+  private static final int PATH_COUNT = 100;
+
+  public enum MatcherMix {
+    URL {
+      @Override
+      MappingBuilder stub(int index) {
+        return get(urlEqualTo("/things/" + index));
+      }
+
+      @Override
+      ImmutableRequest.Builder request(int index) {
+        return requestTo(RequestMethod.GET, "/things/" + index);
+      }
+    },
+    URL_PATH_TEMPLATE {
+      @Override
+      MappingBuilder stub(int index) {
+        return get(urlPathTemplate("/things/" + index + "/items/{itemId}"));
+      }
+
+      @Override
+      ImmutableRequest.Builder request(int index) {
+        return requestTo(RequestMethod.GET, "/things/" + index + "/items/abc");
+      }
+    },
+    EQUAL_TO_JSON {
+      @Override
+      MappingBuilder stub(int index) {
+        return post(urlPathEqualTo(sharedPath(index)))
+            .withRequestBody(equalToJson(jsonBody(index)));
+      }
+
+      @Override
+      ImmutableRequest.Builder request(int index) {
+        return jsonRequest(index);
+      }
+    },
+    MATCHES_JSON_PATH {
+      @Override
+      MappingBuilder stub(int index) {
+        return post(urlPathEqualTo(sharedPath(index)))
+            .withRequestBody(matchingJsonPath("$[?(@.id == " + index + ")]"));
+      }
+
+      @Override
+      ImmutableRequest.Builder request(int index) {
+        return jsonRequest(index);
+      }
+    },
+    XPATH {
+      @Override
+      MappingBuilder stub(int index) {
+        return post(urlPathEqualTo(sharedPath(index)))
+            .withRequestBody(matchingXPath("/thing[@id='" + index + "']"));
+      }
+
+      @Override
+      ImmutableRequest.Builder request(int index) {
+        return requestTo(RequestMethod.POST, sharedPath(index))
+            .withHeader("Content-Type", "application/xml")
+            .withBody(("<thing id=\"" + index + "\"><name>thing</name></thing>").getBytes(UTF_8));
+      }
+    },
+    HEADERS {
+      @Override
+      MappingBuilder stub(int index) {
+        return get(urlPathEqualTo(sharedPath(index)))
+            .withHeader("X-Thing-Id", equalTo(String.valueOf(index)))
+            .withHeader("Accept", equalTo("application/json"));
+      }
+
+      @Override
+      ImmutableRequest.Builder request(int index) {
+        return requestTo(RequestMethod.GET, sharedPath(index))
+            .withHeader("X-Thing-Id", String.valueOf(index))
+            .withHeader("Accept", "application/json");
+      }
+    };
+
+    abstract MappingBuilder stub(int index);
+
+    abstract ImmutableRequest.Builder request(int index);
+
+    private static String sharedPath(int index) {
+      return "/things/" + (index % PATH_COUNT);
+    }
+
+    private static String jsonBody(int index) {
+      return "{\"id\": " + index + ", \"name\": \"thing-" + index + "\", \"tags\": [\"a\", \"b\"]}";
+    }
+
+    private static ImmutableRequest.Builder jsonRequest(int index) {
+      return requestTo(RequestMethod.POST, sharedPath(index))
+          .withHeader("Content-Type", "application/json")
+          .withBody(jsonBody(index).getBytes(UTF_8));
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class Fixture {
+
+    @Param({"100", "10000", "100000"})
+    public int stubCount;
+
+    @Param({"URL", "URL_PATH_TEMPLATE", "EQUAL_TO_JSON", "MATCHES_JSON_PATH", "XPATH", "HEADERS"})
+    public MatcherMix matcherMix;
+
+    @Param({"false", "true"})
+    public boolean templating;
+
+    @Param({"false", "true"})
+    public boolean journal;
+
+    StubRequestHandler stubRequestHandler;
+    Request request;
+    private WireMockServer server;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      WireMockConfiguration options =
+          wireMockConfig()
+              .withRootDirectory(Files.createTempDirectory("wiremock-jmh").toString())
+              .notifier(new ConsoleNotifier(false))
+              .stubRequestLoggingDisabled(true)
+              .templatingEnabled(templating)
+              .globalTemplating(templating)
+              .httpServerFactory(
+                  (serverOptions, adminRequestHandler, stubRequestHandler, messageHandler) -> {
+                    this.stubRequestHandler = stubRequestHandler;
+                    return new DirectCallHttpServer(
+                        serverOptions, adminRequestHandler, stubRequestHandler);
+                  });
+      if (journal) {
+        options.maxRequestJournalEntries(1000);
+      } else {
+        options.disableRequestJournal();
+      }
+
+      server = new WireMockServer(options);
+      IntStream.range(0, stubCount)
+          .forEach(
+              index ->
+                  server.addStubMapping(
+                      matcherMix
+                          .stub(index)
+                          .willReturn(
+                              aResponse()
+                                  .withHeader("Content-Type", "text/plain")
+                                  .withBody(
+                                      templating
+                                          ? "Thing {{request.path.[1]}} via {{request.method}}"
+                                          : "Thing " + index))
+                          .build()));
+
+      request = matcherMix.request(stubCount / 2).build();
+
+      Response response = serve(this);
+      if (response.getStatus() != 200) {
+        throw new IllegalStateException(
+            "Benchmark fixture is wrong: "
+                + request.getUrl()
+                + " was not matched by the stub it targets, so the benchmark would measure the"
+                + " unmatched path");
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      server.shutdownServer();
+    }
+  }
+
+  /** Cost of serving a request that matches one of the fixture's stubs. */
+  @Benchmark
+  public Response serveMatchedRequest(Fixture fixture) {
+    return serve(fixture);
+  }
+
+  private static Response serve(Fixture fixture) {
+    final Response[] response = new Response[1];
+    fixture.stubRequestHandler.handle(
+        fixture.request, (request, served, attributes) -> response[0] = served, null);
+    return response[0];
+  }
+
+  private static ImmutableRequest.Builder requestTo(RequestMethod method, String url) {
+    return ImmutableRequest.create()
+        .withAbsoluteUrl("http://localhost" + url)
+        .withMethod(method)
+        .withProtocol("HTTP/1.1")
+        .withClientIp("127.0.0.1");
+  }
+}
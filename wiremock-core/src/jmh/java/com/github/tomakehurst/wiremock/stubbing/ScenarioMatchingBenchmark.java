@@ -37,6 +37,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
 /**
@@ -164,6 +165,16 @@ public class ScenarioMatchingBenchmark {
     return state.stubMappings.serveFor(ServeEvent.of(state.scenarioRequest));
   }
 
+  /**
+   * As {@link #matchScenarioStub}, but with several threads advancing the same scenario at once, so
+   * that every state transition contends with the others for the last scenario added.
+   */
+  @Benchmark
+  @Threads(4)
+  public ServeEvent advanceScenarioConcurrently(ScenarioFixture state) {
+    return state.stubMappings.serveFor(ServeEvent.of(state.scenarioRequest));
+  }
+
   /** Cost paid by a request whose stub has nothing to do with any scenario. */
   @Benchmark
   public ServeEvent matchScenarioIndependentStub(AnyFixture state) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingXPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+
+import com.github.tomakehurst.wiremock.common.RequestCache;
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.MatchesXPathPattern;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures request throughput against a stub set made up of SOAP operations that are told apart
+ * only by an XPath over the request body, as is typical when mocking a SOAP service.
+ *
+ * <p>Every stub shares the same URL, so the request is evaluated against each of them in turn. The
+ * request targets the first stub added, which is the last candidate in matching order, so each
+ * invocation evaluates one XPath per stub.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+@Fork(3)
+public class SoapMatchingBenchmark {
+
+  private static final String SERVICE_URL = "/services/quotes";
+  private static final String SOAP_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+  private static final String QUOTES_NS = "http://example.com/quotes";
+
+  @State(Scope.Benchmark)
+  public static class SoapFixture {
+
+    @Param({"10", "200"})
+    public int operationCount;
+
+    /** Whether stubs bind namespace prefixes, or select elements by local name only. */
+    @Param({"true", "false"})
+    public boolean namespaced;
+
+    StubMappings stubMappings;
+    LoggedRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      stubMappings = new InMemoryStubMappings();
+      IntStream.range(0, operationCount)
+          .forEach(
+              index ->
+                  stubMappings.addMapping(
+                      post(urlEqualTo(SERVICE_URL))
+                          .withRequestBody(operationPattern(index))
+                          .willReturn(ok())
+                          .build()));
+      request = soapRequestFor(0);
+
+      final ServeEvent serveEvent = serve();
+      if (!serveEvent.getWasMatched()) {
+        throw new IllegalStateException(
+            "Benchmark fixture is wrong: the SOAP request matched no stub");
+      }
+    }
+
+    private MatchesXPathPattern operationPattern(int index) {
+      if (namespaced) {
+        return matchingXPath("/soap:Envelope/soap:Body/q:GetQuote[q:symbol='SYM" + index + "']")
+            .withXPathNamespace("soap", SOAP_NS)
+            .withXPathNamespace("q", QUOTES_NS);
+      }
+
+      return matchingXPath(
+          "/*[local-name()='Envelope']/*[local-name()='Body']"
+              + "/*[local-name()='GetQuote'][*[local-name()='symbol']='SYM"
+              + index
+              + "']");
+    }
+
+    ServeEvent serve() {
+      try {
+        return stubMappings.serveFor(ServeEvent.of(request));
+      } finally {
+        RequestCache.onRequestEnd();
+      }
+    }
+  }
+
+  /** Serving one SOAP request, including ending the request so no parsed body is carried over. */
+  @Benchmark
+  public ServeEvent matchSoapOperation(SoapFixture state) {
+    return state.serve();
+  }
+
+  private static LoggedRequest soapRequestFor(int index) {
+    final String body =
+        "<soap:Envelope xmlns:soap=\""
+            + SOAP_NS
+            + "\">"
+            + "<soap:Header/>"
+            + "<soap:Body>"
+            + "<q:GetQuote xmlns:q=\""
+            + QUOTES_NS
+            + "\">"
+            + "<q:symbol>SYM"
+            + index
+            + "</q:symbol>"
+            + "<q:currency>GBP</q:currency>"
+            + "</q:GetQuote>"
+            + "</soap:Body>"
+            + "</soap:Envelope>";
+
+    return LoggedRequest.createFrom(
+        ImmutableRequest.create()
+            .withAbsoluteUrl("http://localhost" + SERVICE_URL)
+            .withMethod(RequestMethod.POST)
+            .withProtocol("HTTP/1.1")
+            .withClientIp("127.0.0.1")
+            .withHeader("Content-Type", "text/xml; charset=utf-8")
+            .withBody(body.getBytes(StandardCharsets.UTF_8))
+            .build());
+  }
+}
@@ -30,6 +30,11 @@ public class Conversions {
     return parameter != null ? Integer.valueOf(parameter.decode()) : null;
   }
 
+  public static boolean toBoolean(Query query, String key) {
+    QueryParamValue parameter = query.getFirst(key);
+    return parameter != null && Boolean.parseBoolean(parameter.decode());
+  }
+
   public static Date toDate(Query query, String key) {
     QueryParamValue parameter = query.getFirst(key);
     try {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2018-2025 Thomas Akehurst
+ * Copyright (C) 2018-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package com.github.tomakehurst.wiremock.admin;
 
 import com.github.tomakehurst.wiremock.admin.model.ListStubMappingsResult;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
@@ -30,6 +31,6 @@ public class FindStubMappingsByMetadataTask implements AdminTask {
     StringValuePattern pattern =
         Json.read(serveEvent.getRequest().getBodyAsString(), StringValuePattern.class);
     ListStubMappingsResult stubMappings = admin.findAllStubsByMetadata(pattern);
-    return ResponseDefinition.okForJson(stubMappings);
+    return ResponseDefinitionBuilder.streamedJsonResponse(stubMappings);
   }
 }
@@ -15,10 +15,8 @@
  */
 package com.github.tomakehurst.wiremock.admin.tasks;
 
-import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
-import static java.net.HttpURLConnection.HTTP_OK;
-
 import com.github.tomakehurst.wiremock.admin.AdminTask;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
@@ -38,10 +36,6 @@ public class FindMessageEventsTask implements AdminTask {
     List<MessageServeEvent> events = admin.findMessageEventsMatching(pattern);
     FindMessageServeEventsResult result = new FindMessageServeEventsResult(events);
 
-    return responseDefinition()
-        .withStatus(HTTP_OK)
-        .withBody(Json.write(result))
-        .withHeader("Content-Type", "application/json")
-        .build();
+    return ResponseDefinitionBuilder.streamedJsonResponse(result);
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2013-2025 Thomas Akehurst
+ * Copyright (C) 2013-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,10 +15,8 @@
  */
 package com.github.tomakehurst.wiremock.admin.tasks;
 
-import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
-import static java.net.HttpURLConnection.HTTP_OK;
-
 import com.github.tomakehurst.wiremock.admin.AdminTask;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
@@ -35,10 +33,6 @@ public class FindRequestsTask implements AdminTask {
         Json.read(serveEvent.getRequest().getBodyAsString(), RequestPattern.class);
     FindRequestsResult result = admin.findRequestsMatching(requestPattern);
 
-    return responseDefinition()
-        .withStatus(HTTP_OK)
-        .withBody(Json.write(result))
-        .withHeader("Content-Type", "application/json")
-        .build();
+    return ResponseDefinitionBuilder.streamedJsonResponse(result);
   }
 }
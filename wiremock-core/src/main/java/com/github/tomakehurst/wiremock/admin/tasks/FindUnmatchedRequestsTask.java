@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,8 @@
  */
 package com.github.tomakehurst.wiremock.admin.tasks;
 
-import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
-import static java.net.HttpURLConnection.HTTP_OK;
-
 import com.github.tomakehurst.wiremock.admin.AdminTask;
-import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
@@ -31,10 +28,6 @@ public class FindUnmatchedRequestsTask implements AdminTask {
   @Override
   public ResponseDefinition execute(Admin admin, ServeEvent serveEvent, PathParams pathParams) {
     FindRequestsResult unmatchedRequests = admin.findUnmatchedRequests();
-    return responseDefinition()
-        .withStatus(HTTP_OK)
-        .withBody(Json.write(unmatchedRequests))
-        .withHeader("Content-Type", "application/json")
-        .build();
+    return ResponseDefinitionBuilder.streamedJsonResponse(unmatchedRequests);
   }
 }
@@ -15,12 +15,9 @@
  */
 package com.github.tomakehurst.wiremock.admin.tasks;
 
-import static com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder.responseDefinition;
-import static java.net.HttpURLConnection.HTTP_OK;
-
 import com.github.tomakehurst.wiremock.admin.AdminTask;
 import com.github.tomakehurst.wiremock.admin.model.GetMessageServeEventsResult;
-import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.core.Admin;
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
@@ -32,10 +29,6 @@ public class GetAllMessageEventsTask implements AdminTask {
   public ResponseDefinition execute(Admin admin, ServeEvent serveEvent, PathParams pathParams) {
     GetMessageServeEventsResult result = admin.getMessageServeEvents();
 
-    return responseDefinition()
-        .withStatus(HTTP_OK)
-        .withBody(Json.write(result))
-        .withHeader("Content-Type", "application/json")
-        .build();
+    return ResponseDefinitionBuilder.streamedJsonResponse(result);
   }
 }
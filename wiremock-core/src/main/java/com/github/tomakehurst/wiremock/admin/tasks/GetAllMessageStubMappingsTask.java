@@ -33,6 +33,6 @@ public class GetAllMessageStubMappingsTask implements AdminTask {
             LimitAndOffsetPaginator.fromRequest(
                 admin.listAllMessageStubMappings().getMessageMappings(), serveEvent.getRequest()));
 
-    return ResponseDefinitionBuilder.jsonResponse(result);
+    return ResponseDefinitionBuilder.streamedJsonResponse(result);
   }
 }
@@ -33,6 +33,6 @@ public class GetAllStubMappingsTask implements AdminTask {
             LimitAndOffsetPaginator.fromRequest(
                 admin.listAllStubMappings().getMappings(), serveEvent.getRequest()));
 
-    return ResponseDefinitionBuilder.jsonResponse(result);
+    return ResponseDefinitionBuilder.streamedJsonResponse(result);
   }
 }
@@ -71,6 +71,18 @@ public class ResponseDefinitionBuilder {
         .build();
   }
 
+  /**
+   * A JSON response whose body is serialised as it is written out rather than up front, and is
+   * compact unless pretty printing is requested. Intended for potentially large admin results.
+   */
+  public static ResponseDefinition streamedJsonResponse(Object body) {
+    return new ResponseDefinitionBuilder()
+        .withEntityBody(EntityDefinition.streamedJson(body, Json.PublicView.class))
+        .withStatus(HTTP_OK)
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .build();
+  }
+
   public ResponseDefinitionBuilder but() {
     return this;
   }
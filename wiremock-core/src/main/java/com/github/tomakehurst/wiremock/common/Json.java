@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 import org.wiremock.url.jackson2.WireMockUrlModule;
 
@@ -109,6 +110,23 @@ public final class Json {
     }
   }
 
+  /**
+   * Serialises the object straight to the stream through Jackson's streaming generator, leaving the
+   * stream open for the caller.
+   */
+  public static <T> void writeTo(OutputStream out, T object, Class<?> view, boolean prettyPrint)
+      throws IOException {
+    ObjectWriter objectWriter =
+        getObjectMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    if (prettyPrint) {
+      objectWriter = objectWriter.withDefaultPrettyPrinter();
+    }
+    if (view != null) {
+      objectWriter = objectWriter.withView(view);
+    }
+    objectWriter.writeValue(out, object);
+  }
+
   public static ObjectMapper getObjectMapper() {
     return objectMapperHolder.get();
   }
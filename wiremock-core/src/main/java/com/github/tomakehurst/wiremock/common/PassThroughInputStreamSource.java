@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+
+/**
+ * The body of a response that is still arriving, such as one being proxied. Bytes read through
+ * {@link #getStream()} are retained so that the body can be read again, so a consumer that only
+ * needs a prefix (e.g. the journal with a body size limit) only costs that prefix in memory, while
+ * one that reads everything (e.g. a transformer) gets the old fully buffered behaviour. {@link
+ * #writeTo(OutputStream)} sends whatever has been retained followed by the rest of the upstream
+ * body without retaining it, after which the body can't be read again.
+ */
+public class PassThroughInputStreamSource implements WritableInputStreamSource, Closeable {
+
+  private static final int CHUNK_SIZE = 8192;
+
+  private final InputStream upstream;
+  private byte[] retained = new byte[0];
+  private int retainedLength;
+  private boolean upstreamFinished;
+  private boolean passedThrough;
+
+  public PassThroughInputStreamSource(InputStream upstream) {
+    this.upstream = upstream;
+  }
+
+  @Override
+  public synchronized InputStream getStream() {
+    if (passedThrough) {
+      throw new IllegalStateException("The body has already been passed through to the client");
+    }
+
+    return new RetainedBodyInputStream();
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    try (InputStream body = passThrough()) {
+      body.transferTo(out);
+    }
+  }
+
+  /**
+   * Hands over whatever has been retained followed by the rest of the upstream body as a single
+   * stream that retains nothing, for consumers that send the body on at their own pace. As with
+   * {@link #writeTo(OutputStream)}, the body can't be read again afterwards. Closing the stream
+   * releases the upstream.
+   */
+  public InputStream passThrough() {
+    final InputStream prefix;
+    final boolean restToCome;
+    synchronized (this) {
+      if (passedThrough) {
+        throw new IllegalStateException("The body has already been passed through to the client");
+      }
+      passedThrough = true;
+      prefix = new ByteArrayInputStream(retained, 0, retainedLength);
+      retained = null;
+      restToCome = !upstreamFinished;
+    }
+
+    return new FilterInputStream(restToCome ? new SequenceInputStream(prefix, upstream) : prefix) {
+      @Override
+      public void close() throws IOException {
+        PassThroughInputStreamSource.this.close();
+      }
+    };
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (!upstreamFinished) {
+      upstreamFinished = true;
+      upstream.close();
+    }
+  }
+
+  private synchronized int read(int position, byte[] b, int off, int len) throws IOException {
+    if (passedThrough) {
+      throw new IOException("The body has already been passed through to the client");
+    }
+
+    if (position >= retainedLength && !retainMore(Math.max(len, CHUNK_SIZE))) {
+      return -1;
+    }
+
+    final int count = Math.min(len, retainedLength - position);
+    System.arraycopy(retained, position, b, off, count);
+    return count;
+  }
+
+  private boolean retainMore(int wanted) throws IOException {
+    if (upstreamFinished) {
+      return false;
+    }
+
+    if (retained.length - retainedLength < wanted) {
+      retained = Arrays.copyOf(retained, Math.max(retained.length * 2, retainedLength + wanted));
+    }
+
+    final int count = upstream.read(retained, retainedLength, wanted);
+    if (count == -1) {
+      close();
+      return false;
+    }
+
+    retainedLength += count;
+    return true;
+  }
+
+  private class RetainedBodyInputStream extends InputStream {
+
+    private int position;
+
+    @Override
+    public int read() throws IOException {
+      final byte[] single = new byte[1];
+      final int count = read(single, 0, 1);
+      return count == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+
+      final int count = PassThroughInputStreamSource.this.read(position, b, off, len);
+      if (count > 0) {
+        position += count;
+      }
+      return count;
+    }
+  }
+}
@@ -20,7 +20,10 @@ import static com.github.tomakehurst.wiremock.common.Prioritisable.DEFAULT_PRIOR
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
@@ -29,13 +32,16 @@ public class SortedConcurrentPrioritisableSet<T extends Prioritisable> implement
 
   private final AtomicLong insertionCount;
   private final ConcurrentSkipListSet<T> set;
+  // Side index kept in step with the set, so lookups and removals by ID don't require a scan
+  private final Map<UUID, T> byId;
 
   public SortedConcurrentPrioritisableSet() {
     insertionCount = new AtomicLong();
     set = new ConcurrentSkipListSet<>(sortedByPriorityThenReverseInsertionOrder());
+    byId = new ConcurrentHashMap<>();
   }
 
-  private Comparator<Prioritisable> sortedByPriorityThenReverseInsertionOrder() {
+  public static Comparator<Prioritisable> sortedByPriorityThenReverseInsertionOrder() {
     return (one, two) -> {
       int priorityComparison = comparePriorityWith(one, two);
       if (priorityComparison != 0) {
@@ -61,19 +67,31 @@ public class SortedConcurrentPrioritisableSet<T extends Prioritisable> implement
     return set.stream();
   }
 
+  public Optional<T> get(final UUID mappingId) {
+    return mappingId != null ? Optional.ofNullable(byId.get(mappingId)) : Optional.empty();
+  }
+
   public T add(T mapping) {
     mapping = mapping.withInsertionIndex(insertionCount.getAndIncrement());
     set.add(mapping);
+    byId.put(mapping.getId(), mapping);
     return mapping;
   }
 
   public boolean remove(final UUID mappingId) {
-    return set.removeIf(mapping -> mappingId != null && mappingId.equals(mapping.getId()));
+    if (mappingId == null) {
+      return false;
+    }
+
+    final T removed = byId.remove(mappingId);
+    return removed != null && set.remove(removed);
   }
 
   public T replace(T existingItem, T newItem) {
     if (set.remove(existingItem)) {
+      byId.remove(existingItem.getId());
       set.add(newItem);
+      byId.put(newItem.getId(), newItem);
     }
 
     return newItem;
@@ -81,6 +99,7 @@ public class SortedConcurrentPrioritisableSet<T extends Prioritisable> implement
 
   public void clear() {
     set.clear();
+    byId.clear();
   }
 
   @Override
@@ -34,6 +34,11 @@ public class StreamSources {
     return new ByteArrayInputStreamSource(bytes);
   }
 
+  /** Like {@link #forBytes(byte[])}, for a buffer of which only the first length bytes are used. */
+  public static InputStreamSource forBytes(final byte[] bytes, final int length) {
+    return new ByteArrayInputStreamSource(bytes, length);
+  }
+
   public static InputStreamSource forBlobStoreItem(BlobStore blobStore, String key) {
     return () ->
         blobStore
@@ -59,14 +64,24 @@ public class StreamSources {
   public static class ByteArrayInputStreamSource implements InputStreamSource {
 
     private final byte[] bytes;
+    private final int length;
 
     public ByteArrayInputStreamSource(byte[] bytes) {
+      this(bytes, bytes == null ? 0 : bytes.length);
+    }
+
+    public ByteArrayInputStreamSource(byte[] bytes, int length) {
       this.bytes = bytes;
+      this.length = length;
     }
 
     @Override
     public InputStream getStream() {
-      return bytes == null ? null : new ByteArrayInputStream(bytes);
+      return bytes == null ? null : new ByteArrayInputStream(bytes, 0, length);
+    }
+
+    public int getLength() {
+      return length;
     }
   }
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors that run each task on a new virtual thread. The build targets JDK 17, so the
+ * virtual thread API is looked up reflectively and nothing is returned on JVMs that predate it.
+ */
+public class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  /**
+   * Returns an executor that starts a virtual thread named with the given prefix for each task, or
+   * nothing if the JVM doesn't support virtual threads.
+   */
+  public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor(String namePrefix) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder =
+          builderClass
+              .getMethod("name", String.class, long.class)
+              .invoke(builder, namePrefix + "-", 0L);
+      final ThreadFactory threadFactory =
+          (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      return Optional.of(
+          (ExecutorService)
+              Executors.class
+                  .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                  .invoke(null, threadFactory));
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A source that can write its content straight to an output stream, so that large generated bodies
+ * never need to be held in memory in full. Consumers that need an input stream instead get a
+ * buffered copy.
+ */
+public interface WritableInputStreamSource extends InputStreamSource {
+
+  void writeTo(OutputStream out) throws IOException;
+
+  @Override
+  default InputStream getStream() {
+    final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    Exceptions.uncheck(() -> writeTo(buffer));
+    return new ByteArrayInputStream(buffer.toByteArray());
+  }
+}
@@ -125,6 +125,11 @@ public class Entity {
       return null;
     }
 
+    // Avoids generating a streamed body only to discard it
+    if (limit != null && Objects.equals(limit.getValue(), 0)) {
+      return new byte[0];
+    }
+
     return Exceptions.uncheck(
         () -> {
           try (InputStream stream = Exceptions.uncheck(streamSource::getStream)) {
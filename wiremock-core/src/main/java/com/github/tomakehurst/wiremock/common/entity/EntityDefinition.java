@@ -78,6 +78,19 @@ public abstract class EntityDefinition {
     return new JsonEntityDefinition(data);
   }
 
+  public static StreamedJsonEntityDefinition streamedJson(Object data, Class<?> view) {
+    return new StreamedJsonEntityDefinition(data, view, false);
+  }
+
+  /**
+   * An uncompressed entity whose content is the first length bytes of the buffer, which is used as
+   * it is and so must not be changed afterwards.
+   */
+  public static EntityDefinition fromBuffer(
+      byte[] buffer, int length, @Nullable Format format, @Nullable Charset charset) {
+    return new SimpleEntityDefinition(false, NONE, format, charset, buffer, length);
+  }
+
   public static EntityDefinition fromBase64(String base64) {
     return builder().setFormat(Format.BINARY).setBodyBase64(base64).build();
   }
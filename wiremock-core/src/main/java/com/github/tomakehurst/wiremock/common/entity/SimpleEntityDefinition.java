@@ -16,7 +16,6 @@
 package com.github.tomakehurst.wiremock.common.entity;
 
 import static com.github.tomakehurst.wiremock.common.Strings.bytesFromString;
-import static com.github.tomakehurst.wiremock.common.Strings.stringFromBytes;
 import static com.github.tomakehurst.wiremock.common.entity.CompressionType.NONE;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -36,6 +35,7 @@ public class SimpleEntityDefinition extends EntityDefinition {
 
   private final boolean simpleStringStyle;
   private final byte[] data;
+  private final int length;
 
   public SimpleEntityDefinition(@NonNull String text) {
     this(text, DEFAULT_CHARSET);
@@ -51,9 +51,24 @@ public class SimpleEntityDefinition extends EntityDefinition {
       Format format,
       Charset charset,
       byte[] data) {
+    this(simpleStringStyle, compression, format, charset, data, data.length);
+  }
+
+  /**
+   * Takes the first length bytes of data as the content, so that a buffer something has been
+   * written into can be used as it is rather than copied to size.
+   */
+  SimpleEntityDefinition(
+      boolean simpleStringStyle,
+      CompressionType compression,
+      Format format,
+      Charset charset,
+      byte[] data,
+      int length) {
     super(compression, format, charset);
     this.simpleStringStyle = simpleStringStyle;
     this.data = data;
+    this.length = length;
   }
 
   @Override
@@ -68,13 +83,13 @@ public class SimpleEntityDefinition extends EntityDefinition {
 
   @Override
   @NonNull InputStreamSource resolveEntityData(@Nullable Stores stores) {
-    return StreamSources.forBytes(getDataAsBytes());
+    return StreamSources.forBytes(data, length);
   }
 
   @Override
   public @Nullable Object getData() {
     if (!isBinary() && !isCompressed()) {
-      return stringFromBytes(data, charset);
+      return new String(data, 0, length, charset);
     }
 
     return null;
@@ -82,7 +97,7 @@ public class SimpleEntityDefinition extends EntityDefinition {
 
   public @Nullable String getBase64Data() {
     if (isBinary() || isCompressed()) {
-      return Encoding.encodeBase64(data);
+      return Encoding.encodeBase64(getDataAsBytes());
     }
     return null;
   }
@@ -90,7 +105,7 @@ public class SimpleEntityDefinition extends EntityDefinition {
   @Override
   public String getDataAsString() {
     if (!isBinary() && !isCompressed()) {
-      return stringFromBytes(data, charset);
+      return new String(data, 0, length, charset);
     } else {
       return getBase64Data();
     }
@@ -98,7 +113,7 @@ public class SimpleEntityDefinition extends EntityDefinition {
 
   @Override
   public byte[] getDataAsBytes() {
-    return data;
+    return length == data.length ? data : Arrays.copyOf(data, length);
   }
 
   @Override
@@ -112,7 +127,7 @@ public class SimpleEntityDefinition extends EntityDefinition {
         this.compression,
         this.format,
         this.charset,
-        this.data,
+        getDataAsBytes(),
         null,
         null,
         null,
@@ -127,11 +142,11 @@ public class SimpleEntityDefinition extends EntityDefinition {
     return Objects.equals(compression, that.compression)
         && Objects.equals(format, that.format)
         && Objects.equals(charset, that.charset)
-        && Objects.deepEquals(data, that.data);
+        && Arrays.equals(data, 0, length, that.data, 0, that.length);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(compression, format, charset, Arrays.hashCode(data));
+    return Objects.hash(compression, format, charset, Arrays.hashCode(getDataAsBytes()));
   }
 }
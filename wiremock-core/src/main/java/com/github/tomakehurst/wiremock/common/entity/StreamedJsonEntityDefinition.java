@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.entity;
+
+import static com.github.tomakehurst.wiremock.common.entity.CompressionType.NONE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.tomakehurst.wiremock.common.Exceptions;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.WritableInputStreamSource;
+import com.github.tomakehurst.wiremock.store.Stores;
+import java.io.ByteArrayOutputStream;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A JSON body that is serialised from the object each time it is written rather than up front, so
+ * that large admin results are streamed to the client instead of being built into a string first.
+ */
+public class StreamedJsonEntityDefinition extends EntityDefinition {
+
+  private final @NonNull Object value;
+  private final @Nullable Class<?> view;
+  private final boolean prettyPrint;
+
+  StreamedJsonEntityDefinition(
+      @NonNull Object value, @Nullable Class<?> view, boolean prettyPrint) {
+    super(NONE, Format.JSON, UTF_8);
+    this.value = value;
+    this.view = view;
+    this.prettyPrint = prettyPrint;
+  }
+
+  public StreamedJsonEntityDefinition prettyPrinted() {
+    return new StreamedJsonEntityDefinition(value, view, true);
+  }
+
+  @Override
+  @NonNull InputStreamSource resolveEntityData(@Nullable Stores stores) {
+    return (WritableInputStreamSource) out -> Json.writeTo(out, value, view, prettyPrint);
+  }
+
+  @Override
+  public @NonNull Object getData() {
+    return value;
+  }
+
+  @Override
+  @JsonIgnore
+  public boolean isInline() {
+    return true;
+  }
+
+  @Override
+  public @NonNull String getDataAsString() {
+    return new String(getDataAsBytes(), UTF_8);
+  }
+
+  @Override
+  public byte[] getDataAsBytes() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Exceptions.uncheck(() -> Json.writeTo(out, value, view, prettyPrint));
+    return out.toByteArray();
+  }
+
+  @Override
+  public @NonNull Builder toBuilder() {
+    return new Builder(
+        this.compression, this.format, this.charset, null, Json.node(value), null, null, false);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof StreamedJsonEntityDefinition that)) return false;
+    return prettyPrint == that.prettyPrint
+        && Objects.equals(value, that.value)
+        && Objects.equals(view, that.view);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, view, prettyPrint);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.xml;
+
+import static com.github.tomakehurst.wiremock.common.xml.XmlNode.XPATH_CACHE;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.xml.XMLConstants;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import org.xmlunit.util.Convert;
+
+/**
+ * An XPath expression bound to its namespaces, compiled on first use rather than on every
+ * evaluation. Compiled expressions aren't thread safe, so each evaluation borrows one from a small
+ * pool, compiling another only when every copy is in use. The pool therefore grows to the number of
+ * concurrent evaluations rather than the number of threads that have ever evaluated it.
+ */
+public class CompiledXPath {
+
+  private final String expression;
+  private final Map<String, String> namespaces;
+  private final Queue<XPathExpression> pool = new ConcurrentLinkedQueue<>();
+
+  public CompiledXPath(String expression, Map<String, String> namespaces) {
+    this.expression = expression;
+    this.namespaces = namespaces;
+  }
+
+  boolean hasNamespaces() {
+    return namespaces != null;
+  }
+
+  XPathExpression borrow() {
+    final XPathExpression pooled = pool.poll();
+    return pooled != null ? pooled : compile(expression, namespaces);
+  }
+
+  void giveBack(XPathExpression compiled) {
+    pool.offer(compiled);
+  }
+
+  static XPathExpression compile(String expression, Map<String, String> namespaces) {
+    try {
+      final XPath xPath = XPATH_CACHE.get();
+      xPath.reset();
+      if (namespaces != null) {
+        xPath.setNamespaceContext(Convert.toNamespaceContext(addStandardNamespaces(namespaces)));
+      }
+
+      return xPath.compile(expression);
+    } catch (XPathExpressionException e) {
+      throw XPathException.fromXPathException(e);
+    }
+  }
+
+  private static Map<String, String> addStandardNamespaces(Map<String, String> namespaces) {
+    Map<String, String> result = new HashMap<String, String>();
+    for (String prefix : namespaces.keySet()) {
+      String uri = namespaces.get(prefix);
+      // according to the Javadocs only the constants defined in
+      // XMLConstants are allowed as prefixes for the following
+      // two URIs
+      if (!XMLConstants.XML_NS_URI.equals(uri)
+          && !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri)) {
+        result.put(prefix, uri);
+      }
+    }
+    result.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
+    result.put(XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE_NS_URI);
+
+    return result;
+  }
+}
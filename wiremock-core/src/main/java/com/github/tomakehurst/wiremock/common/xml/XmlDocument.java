@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2020-2025 Thomas Akehurst
+ * Copyright (C) 2020-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,10 @@
 package com.github.tomakehurst.wiremock.common.xml;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
-import java.util.HashMap;
 import java.util.Map;
-import javax.xml.XMLConstants;
-import javax.xml.namespace.NamespaceContext;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathEvaluationResult;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import org.w3c.dom.Document;
 import org.xmlunit.util.Convert;
@@ -41,20 +38,26 @@ public class XmlDocument extends XmlDomNode {
   }
 
   public ListOrSingle<XmlNode> findNodes(String xPathExpression, Map<String, String> namespaces) {
+    return evaluate(CompiledXPath.compile(xPathExpression, namespaces), namespaces != null);
+  }
+
+  public ListOrSingle<XmlNode> findNodes(CompiledXPath xPath) {
+    final XPathExpression expression = xPath.borrow();
     try {
-      final XPath xPath = XPATH_CACHE.get();
-      xPath.reset();
+      return evaluate(expression, xPath.hasNamespaces());
+    } finally {
+      xPath.giveBack(expression);
+    }
+  }
 
+  private ListOrSingle<XmlNode> evaluate(XPathExpression expression, boolean hasNamespaces) {
+    try {
       XPathEvaluationResult<?> xPathEvaluationResult;
-      if (namespaces != null) {
-        Map<String, String> fullNamespaces = addStandardNamespaces(namespaces);
-        NamespaceContext namespaceContext = Convert.toNamespaceContext(fullNamespaces);
-        xPath.setNamespaceContext(namespaceContext);
+      if (hasNamespaces) {
         xPathEvaluationResult =
-            xPath.evaluateExpression(
-                xPathExpression, Convert.toInputSource(new DOMSource(document)));
+            expression.evaluateExpression(Convert.toInputSource(new DOMSource(document)));
       } else {
-        xPathEvaluationResult = xPath.evaluateExpression(xPathExpression, document);
+        xPathEvaluationResult = expression.evaluateExpression(document);
       }
 
       return toListOrSingle(xPathEvaluationResult);
@@ -62,22 +65,4 @@ public class XmlDocument extends XmlDomNode {
       throw XPathException.fromXPathException(e);
     }
   }
-
-  private static Map<String, String> addStandardNamespaces(Map<String, String> namespaces) {
-    Map<String, String> result = new HashMap<String, String>();
-    for (String prefix : namespaces.keySet()) {
-      String uri = namespaces.get(prefix);
-      // according to the Javadocs only the constants defined in
-      // XMLConstants are allowed as prefixes for the following
-      // two URIs
-      if (!XMLConstants.XML_NS_URI.equals(uri)
-          && !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri)) {
-        result.put(prefix, uri);
-      }
-    }
-    result.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
-    result.put(XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE_NS_URI);
-
-    return result;
-  }
 }
@@ -33,6 +33,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import org.wiremock.annotations.PublishedAPI;
+import org.wiremock.webhooks.WebhookDispatchSettings;
 
 @PublishedAPI
 public interface Options {
@@ -68,6 +69,10 @@ public interface Options {
 
   int containerThreads();
 
+  default boolean getVirtualThreadsEnabled() {
+    return false;
+  }
+
   /**
    * @deprecated use {@link BrowserProxySettings#enabled()}
    */
@@ -144,6 +149,14 @@ public interface Options {
 
   int proxyTimeout();
 
+  default boolean getProxyResponseStreamingEnabled() {
+    return false;
+  }
+
+  default boolean getAsyncHttpClientEnabled() {
+    return false;
+  }
+
   int getMaxHttpClientConnections();
 
   boolean getResponseTemplatingEnabled();
@@ -162,6 +175,10 @@ public interface Options {
 
   int getWebhookThreadPoolSize();
 
+  default WebhookDispatchSettings getWebhookDispatchSettings() {
+    return WebhookDispatchSettings.DEFAULTS;
+  }
+
   long getWebSocketIdleTimeout();
 
   long getWebSocketMaxTextMessageSize();
@@ -18,12 +18,13 @@ package com.github.tomakehurst.wiremock.core;
 import static com.github.tomakehurst.wiremock.common.ListFunctions.indexBy;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
 import static com.github.tomakehurst.wiremock.stubbing.StubImport.Options.DuplicatePolicy.OVERWRITE;
-import static java.util.stream.Collectors.toSet;
 
 import com.github.tomakehurst.wiremock.admin.AdminRoutes;
 import com.github.tomakehurst.wiremock.admin.LimitAndOffsetPaginator;
 import com.github.tomakehurst.wiremock.admin.model.*;
 import com.github.tomakehurst.wiremock.common.BrowserProxySettings;
+import com.github.tomakehurst.wiremock.common.DataTruncationSettings;
+import com.github.tomakehurst.wiremock.common.Limit;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
 import com.github.tomakehurst.wiremock.extension.*;
 import com.github.tomakehurst.wiremock.extension.requestfilter.RequestFilter;
@@ -236,7 +237,8 @@ public class WireMockApp implements StubServer, Admin {
         options.getHttpsRequiredForAdminApi(),
         getAdminRequestFilters(),
         getV2AdminRequestFilters(),
-        options.getDataTruncationSettings());
+        // Admin serve events are never journalled, so their bodies needn't be kept
+        new DataTruncationSettings(new Limit(0)));
   }
 
   public StubRequestHandler buildStubRequestHandler() {
@@ -271,6 +273,7 @@ public class WireMockApp implements StubServer, Admin {
                 settingsStore,
                 options.getStubCorsEnabled(),
                 options.getSupportedProxyEncodings(),
+                options.getProxyResponseStreamingEnabled(),
                 reverseProxyClient,
                 forwardProxyClient),
             List.copyOf(extensions.ofType(ResponseTransformer.class).values()),
@@ -481,8 +484,7 @@ public class WireMockApp implements StubServer, Admin {
   public FindRequestsResult findUnmatchedRequests() {
     try {
       List<LoggedRequest> requests =
-          requestJournal.getAllServeEvents().stream()
-              .filter(ServeEvent::isNoExactMatch)
+          requestJournal.getUnmatchedServeEvents().stream()
               .map(ServeEvent::getRequest)
               .collect(Collectors.toList());
       return FindRequestsResult.withRequests(requests);
@@ -510,13 +512,14 @@ public class WireMockApp implements StubServer, Admin {
 
   @Override
   public FindNearMissesResult findNearMissesForUnmatchedRequests() {
-    List<NearMiss> nearMisses = new ArrayList<>();
-    List<ServeEvent> unmatchedServeEvents =
-        requestJournal.getAllServeEvents().stream().filter(ServeEvent::isNoExactMatch).toList();
+    List<ServeEvent> unmatchedServeEvents = requestJournal.getUnmatchedServeEvents();
 
-    for (ServeEvent serveEvent : unmatchedServeEvents) {
-      nearMisses.addAll(nearMissCalculator.findNearestTo(serveEvent.getRequest()));
-    }
+    // Each request's near misses are independent, and the encounter order is kept when collecting
+    List<NearMiss> nearMisses =
+        unmatchedServeEvents.parallelStream()
+            .flatMap(
+                serveEvent -> nearMissCalculator.findNearestTo(serveEvent.getRequest()).stream())
+            .collect(Collectors.toList());
 
     return new FindNearMissesResult(nearMisses);
   }
@@ -630,20 +633,11 @@ public class WireMockApp implements StubServer, Admin {
     return new RecordingStatusResult(recorder.getStatus().name());
   }
 
-  private Set<UUID> findMatchedStubIds() {
-    return requestJournal.getAllServeEvents().stream()
-        .filter(event -> event.getStubMapping() != null)
-        .map(event -> event.getStubMapping().getId())
-        .collect(toSet());
-  }
-
   @Override
   public ListStubMappingsResult findUnmatchedStubs() {
-    // Collect IDs of stub mappings that have matched at least one request in a HashSet for O(1)
-    // lookups so this method is O(n + m), where n is the number of stubs and m is the number of
-    // requests in the journal.
-    // It'd be slightly more efficient to use IdentityHashMap, but that's error-prone.
-    Set<UUID> servedStubIds = findMatchedStubIds();
+    // The journal keeps hit counts keyed by stub ID as events are logged, so this is O(n) in the
+    // number of stubs rather than also scanning every request in the journal.
+    Set<UUID> servedStubIds = requestJournal.getStubHitCounts().keySet();
     List<StubMapping> foundMappings =
         stubMappings.getAll().stream()
             .filter(stub -> !servedStubIds.contains(stub.getId()))
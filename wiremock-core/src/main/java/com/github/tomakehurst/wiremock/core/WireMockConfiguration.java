@@ -47,6 +47,7 @@ import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.standalone.MappingsSource;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
 import com.github.tomakehurst.wiremock.store.Stores;
+import com.github.tomakehurst.wiremock.store.files.BodyFileCacheSettings;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import com.github.tomakehurst.wiremock.verification.notmatched.PlainTextStubNotMatchedRenderer;
 import java.util.ArrayList;
@@ -55,6 +56,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import org.wiremock.annotations.PublishedAPI;
+import org.wiremock.webhooks.WebhookDispatchSettings;
 
 @PublishedAPI
 @SuppressWarnings("unused")
@@ -69,6 +71,7 @@ public class WireMockConfiguration implements Options {
   private String bindAddress = DEFAULT_BIND_ADDRESS;
 
   private int containerThreads = DEFAULT_CONTAINER_THREADS;
+  private boolean virtualThreadsEnabled;
 
   private int httpsPort = -1;
   private String keyStorePath = getResource(WireMockConfiguration.class, "keystore").toString();
@@ -93,6 +96,7 @@ public class WireMockConfiguration implements Options {
   private Stores stores;
   private MappingsSource mappingsSource;
   private FilenameMaker filenameMaker;
+  private boolean mappingsSnapshotEnabled;
 
   private Notifier notifier = new Slf4jNotifier(false);
   private boolean requestJournalDisabled = false;
@@ -132,6 +136,8 @@ public class WireMockConfiguration implements Options {
   private NetworkAddressRules proxyTargetRules = NetworkAddressRules.ALLOW_ALL;
 
   private int proxyTimeout = DEFAULT_TIMEOUT;
+  private boolean proxyResponseStreamingEnabled;
+  private boolean asyncHttpClientEnabled;
 
   private int maxHttpClientConnections = DEFAULT_MAX_HTTP_CONNECTIONS;
   private boolean disableConnectionReuse = DEFAULT_DISABLE_CONNECTION_REUSE;
@@ -140,11 +146,13 @@ public class WireMockConfiguration implements Options {
   private boolean globalTemplating = false;
   private Set<String> permittedSystemKeys = null;
   private Long maxTemplateCacheEntries = DEFAULT_MAX_TEMPLATE_CACHE_ENTRIES;
+  private BodyFileCacheSettings bodyFileCacheSettings = BodyFileCacheSettings.DEFAULTS;
   private boolean templateEscapingDisabled = true;
 
   private Set<String> supportedProxyEncodings = null;
 
   private int webhookThreadPoolSize = DEFAULT_WEBHOOK_THREADPOOL_SIZE;
+  private WebhookDispatchSettings webhookDispatchSettings = WebhookDispatchSettings.DEFAULTS;
 
   private long webSocketIdleTimeout = DEFAULT_WEBSOCKET_IDLE_TIMEOUT;
   private long webSocketMaxTextMessageSize = DEFAULT_WEBSOCKET_MAX_TEXT_MESSAGE_SIZE;
@@ -156,7 +164,8 @@ public class WireMockConfiguration implements Options {
           new JsonFileMappingsSource(
               filesRoot.child(MAPPINGS_ROOT),
               filesRoot.child(MESSAGE_MAPPINGS_ROOT),
-              getFilenameMaker());
+              getFilenameMaker(),
+              mappingsSnapshotEnabled);
     }
 
     return mappingsSource;
@@ -207,6 +216,15 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Keep a snapshot of the stubs loaded from the mappings directory next to the mapping files, and
+   * load from it on start up while none of the files have changed.
+   */
+  public WireMockConfiguration mappingsSnapshotEnabled(boolean mappingsSnapshotEnabled) {
+    this.mappingsSnapshotEnabled = mappingsSnapshotEnabled;
+    return this;
+  }
+
   public WireMockConfiguration dynamicPort() {
     this.portNumber = DYNAMIC_PORT;
     return this;
@@ -242,6 +260,11 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration virtualThreadsEnabled(boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
   public WireMockConfiguration keystorePath(String path) {
     this.keyStorePath = path;
     return this;
@@ -536,6 +559,17 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration proxyResponseStreamingEnabled(
+      boolean proxyResponseStreamingEnabled) {
+    this.proxyResponseStreamingEnabled = proxyResponseStreamingEnabled;
+    return this;
+  }
+
+  public WireMockConfiguration asyncHttpClientEnabled(boolean asyncHttpClientEnabled) {
+    this.asyncHttpClientEnabled = asyncHttpClientEnabled;
+    return this;
+  }
+
   public WireMockConfiguration maxHttpClientConnections(int maxHttpClientConnections) {
     this.maxHttpClientConnections = maxHttpClientConnections;
     return this;
@@ -571,6 +605,21 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Sets the maximum number of bytes of body file content that are kept in memory, and the size
+   * above which a file is memory-mapped rather than copied onto the heap, or 0 to never memory-map.
+   * Only applies to the default stores.
+   */
+  public WireMockConfiguration withBodyFileCache(long maxSize, long memoryMapThreshold) {
+    this.bodyFileCacheSettings = new BodyFileCacheSettings(maxSize, memoryMapThreshold);
+    return this;
+  }
+
+  public WireMockConfiguration disableBodyFileCache() {
+    this.bodyFileCacheSettings = BodyFileCacheSettings.DISABLED;
+    return this;
+  }
+
   public WireMockConfiguration withSupportedProxyEncodings(Set<String> supportedProxyEncodings) {
     this.supportedProxyEncodings = supportedProxyEncodings;
     return this;
@@ -585,6 +634,12 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  public WireMockConfiguration withWebhookDispatchSettings(
+      WebhookDispatchSettings webhookDispatchSettings) {
+    this.webhookDispatchSettings = webhookDispatchSettings;
+    return this;
+  }
+
   @Override
   public int portNumber() {
     return portNumber;
@@ -610,6 +665,11 @@ public class WireMockConfiguration implements Options {
     return containerThreads;
   }
 
+  @Override
+  public boolean getVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
   @Override
   public HttpsSettings httpsSettings() {
     return new HttpsSettings.Builder()
@@ -638,7 +698,7 @@ public class WireMockConfiguration implements Options {
   @Override
   public Stores getStores() {
     if (stores == null) {
-      stores = new DefaultStores(filesRoot);
+      stores = new DefaultStores(filesRoot, bodyFileCacheSettings);
     }
 
     return stores;
@@ -822,6 +882,16 @@ public class WireMockConfiguration implements Options {
     return proxyTimeout;
   }
 
+  @Override
+  public boolean getProxyResponseStreamingEnabled() {
+    return proxyResponseStreamingEnabled;
+  }
+
+  @Override
+  public boolean getAsyncHttpClientEnabled() {
+    return asyncHttpClientEnabled;
+  }
+
   @Override
   public int getMaxHttpClientConnections() {
     return maxHttpClientConnections;
@@ -867,6 +937,11 @@ public class WireMockConfiguration implements Options {
     return webhookThreadPoolSize;
   }
 
+  @Override
+  public WebhookDispatchSettings getWebhookDispatchSettings() {
+    return webhookDispatchSettings;
+  }
+
   @Override
   public long getWebSocketIdleTimeout() {
     return webSocketIdleTimeout;
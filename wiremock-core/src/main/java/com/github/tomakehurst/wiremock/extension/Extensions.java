@@ -198,7 +198,8 @@ public class Extensions implements WireMockServices {
         new Webhooks(
             this,
             Executors.newScheduledThreadPool(options.getWebhookThreadPoolSize()),
-            webhookTransformers);
+            webhookTransformers,
+            options.getWebhookDispatchSettings());
     loadedExtensions.put(webhooks.getName(), webhooks);
   }
 
@@ -66,18 +66,29 @@ public class HandlebarsOptimizedTemplate {
   }
 
   public String apply(Object contextData) {
+    final StringWriter writer = new StringWriter(estimatedLength());
+    apply(contextData, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Renders straight into the given writer, so that the output of a large template is never held in
+   * memory as a string on its way to wherever it is being written.
+   */
+  public void apply(Object contextData, Writer writer) {
     final RequestCache requestCache = RequestCache.getCurrent();
     Context context = Context.newBuilder(contextData).combine("requestCache", requestCache).build();
 
-    return startContent + applyTemplate(context) + endContent;
-  }
-
-  private String applyTemplate(Context context) {
-    return Exceptions.uncheck(
+    Exceptions.uncheck(
         () -> {
-          Writer stringWriter = new StringWriter(template.text().length() * 2);
-          template.apply(context, stringWriter);
-          return stringWriter.toString();
+          writer.write(startContent);
+          template.apply(context, writer);
+          writer.write(endContent);
+          writer.flush();
         });
   }
+
+  int estimatedLength() {
+    return startContent.length() + template.text().length() * 2 + endContent.length();
+  }
 }
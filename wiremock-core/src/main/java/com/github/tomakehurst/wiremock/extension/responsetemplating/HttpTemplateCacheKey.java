@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2019-2025 Thomas Akehurst
+ * Copyright (C) 2019-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,15 @@ package com.github.tomakehurst.wiremock.extension.responsetemplating;
 
 import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import java.util.Objects;
+import java.util.UUID;
 
+/**
+ * Identifies a templated element of a stub's response. The response definition the template was
+ * taken from acts as the key's version: hashing ignores it and equality checks it by reference
+ * first, so a lookup for a stub served from memory costs the same however large its body is, while
+ * an edited stub (which always carries a new definition) never hits a template compiled from the
+ * old one.
+ */
 public class HttpTemplateCacheKey {
 
   public enum ResponseElement {
@@ -26,59 +34,75 @@ public class HttpTemplateCacheKey {
     HEADER
   }
 
+  private final UUID stubId;
   private final ResponseDefinition responseDefinition;
   private final ResponseElement element;
   private final String name;
   private final Integer index;
 
-  public static HttpTemplateCacheKey forInlineBody(ResponseDefinition responseDefinition) {
-    return new HttpTemplateCacheKey(responseDefinition, ResponseElement.BODY, "[inlineBody]", null);
+  public static HttpTemplateCacheKey forInlineBody(
+      UUID stubId, ResponseDefinition responseDefinition) {
+    return new HttpTemplateCacheKey(
+        stubId, responseDefinition, ResponseElement.BODY, "[inlineBody]", null);
   }
 
   public static HttpTemplateCacheKey forFileBody(
-      ResponseDefinition responseDefinition, String filename) {
-    return new HttpTemplateCacheKey(responseDefinition, ResponseElement.BODY, filename, null);
+      UUID stubId, ResponseDefinition responseDefinition, String filename) {
+    return new HttpTemplateCacheKey(
+        stubId, responseDefinition, ResponseElement.BODY, filename, null);
   }
 
   public static HttpTemplateCacheKey forHeader(
-      ResponseDefinition responseDefinition, String headerName, int valueIndex) {
+      UUID stubId, ResponseDefinition responseDefinition, String headerName, int valueIndex) {
     return new HttpTemplateCacheKey(
-        responseDefinition, ResponseElement.HEADER, headerName, valueIndex);
+        stubId, responseDefinition, ResponseElement.HEADER, headerName, valueIndex);
   }
 
-  public static HttpTemplateCacheKey forProxyUrl(ResponseDefinition responseDefinition) {
+  public static HttpTemplateCacheKey forProxyUrl(
+      UUID stubId, ResponseDefinition responseDefinition) {
     return new HttpTemplateCacheKey(
-        responseDefinition, ResponseElement.PROXY_URL, "[proxyUrl]", null);
+        stubId, responseDefinition, ResponseElement.PROXY_URL, "[proxyUrl]", null);
   }
 
   private HttpTemplateCacheKey(
-      ResponseDefinition responseDefinition, ResponseElement element, String name, Integer index) {
+      UUID stubId,
+      ResponseDefinition responseDefinition,
+      ResponseElement element,
+      String name,
+      Integer index) {
+    this.stubId = stubId;
     this.responseDefinition = responseDefinition;
     this.element = element;
     this.name = name;
     this.index = index;
   }
 
+  public UUID getStubId() {
+    return stubId;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     HttpTemplateCacheKey that = (HttpTemplateCacheKey) o;
-    return responseDefinition.equals(that.responseDefinition)
+    return Objects.equals(stubId, that.stubId)
         && element == that.element
         && name.equals(that.name)
-        && Objects.equals(index, that.index);
+        && Objects.equals(index, that.index)
+        && (responseDefinition == that.responseDefinition
+            || responseDefinition.equals(that.responseDefinition));
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(responseDefinition, element, name, index);
+    return Objects.hash(stubId, element, name, index);
   }
 
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("TemplateCacheKey{");
-    sb.append("responseDefinition=").append(responseDefinition);
+    sb.append("stubId=").append(stubId);
     sb.append(", element=").append(element);
     sb.append(", name='").append(name).append('\'');
     sb.append(", index=").append(index);
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock.extension.responsetemplating;
 import com.github.tomakehurst.wiremock.common.Lazy;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Supplier;
 
 public class LazyTemplateEngine extends TemplateEngine {
@@ -32,6 +33,11 @@ public class LazyTemplateEngine extends TemplateEngine {
     return templateEngineLazy.get().getTemplate(key, content);
   }
 
+  @Override
+  public HandlebarsOptimizedTemplate getTemplate(Object key, Supplier<String> contentSupplier) {
+    return templateEngineLazy.get().getTemplate(key, contentSupplier);
+  }
+
   @Override
   public HandlebarsOptimizedTemplate getUncachedTemplate(String content) {
     return templateEngineLazy.get().getUncachedTemplate(content);
@@ -47,11 +53,21 @@ public class LazyTemplateEngine extends TemplateEngine {
     return templateEngineLazy.get().getCacheSize();
   }
 
+  @Override
+  public TemplateCacheStatistics getCacheStatistics() {
+    return templateEngineLazy.get().getCacheStatistics();
+  }
+
   @Override
   public void invalidateCache() {
     templateEngineLazy.get().invalidateCache();
   }
 
+  @Override
+  public void invalidateCacheForStub(UUID stubId) {
+    templateEngineLazy.get().invalidateCacheForStub(stubId);
+  }
+
   @Override
   public Long getMaxCacheEntries() {
     return templateEngineLazy.get().getMaxCacheEntries();
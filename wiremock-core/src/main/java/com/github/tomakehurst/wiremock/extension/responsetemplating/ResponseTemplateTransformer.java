@@ -16,12 +16,13 @@
 package com.github.tomakehurst.wiremock.extension.responsetemplating;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.github.jknack.handlebars.HandlebarsException;
+import com.github.tomakehurst.wiremock.admin.Router;
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.JsonException;
-import com.github.tomakehurst.wiremock.common.entity.Entity;
 import com.github.tomakehurst.wiremock.common.entity.EntityDefinition;
 import com.github.tomakehurst.wiremock.common.entity.Format;
 import com.github.tomakehurst.wiremock.extension.*;
@@ -30,12 +31,15 @@ import com.github.tomakehurst.wiremock.store.Stores;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NullMarked;
 
 public class ResponseTemplateTransformer
-    implements StubLifecycleListener, ResponseDefinitionTransformerV2 {
+    implements StubLifecycleListener, ResponseDefinitionTransformerV2, AdminApiExtension {
 
   public static final String NAME = "response-template";
 
@@ -68,6 +72,8 @@ public class ResponseTemplateTransformer
       final Request request = serveEvent.getRequest();
       final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
       final Parameters parameters = responseDefinition.getTransformerParameters();
+      final UUID stubId =
+          serveEvent.getStubMapping() != null ? serveEvent.getStubMapping().getId() : null;
 
       ResponseDefinitionBuilder newResponseDefBuilder =
           ResponseDefinitionBuilder.like(responseDefinition);
@@ -84,19 +90,19 @@ public class ResponseTemplateTransformer
         bodyDefinition =
             bodyDefinition.transform(builder -> builder.setFilePath(interpolatedFilePath));
         templateCacheKey =
-            HttpTemplateCacheKey.forFileBody(responseDefinition, interpolatedFilePath);
+            HttpTemplateCacheKey.forFileBody(stubId, responseDefinition, interpolatedFilePath);
       } else {
-        templateCacheKey = HttpTemplateCacheKey.forInlineBody(responseDefinition);
+        templateCacheKey = HttpTemplateCacheKey.forInlineBody(stubId, responseDefinition);
       }
 
-      final Entity initialBody = bodyDefinition.resolve(stores);
-
+      final EntityDefinition sourceBody = bodyDefinition;
       final boolean bodyIsInlineOrTemplatingPermitted =
           bodyDefinition.isInline() || !parameters.getBoolean("disableBodyFileTemplating", false);
 
       if (bodyIsInlineOrTemplatingPermitted) {
         final HandlebarsOptimizedTemplate bodyTemplate =
-            templateEngine.getTemplate(templateCacheKey, initialBody.asString());
+            templateEngine.getTemplate(
+                templateCacheKey, () -> sourceBody.resolve(stores).asString());
 
         if (bodyTemplate.hasTemplateExpressions()) {
           bodyDefinition = applyTemplateToBodyEntity(model, bodyTemplate);
@@ -114,7 +120,7 @@ public class ResponseTemplateTransformer
                       HandlebarsOptimizedTemplate template =
                           templateEngine.getTemplate(
                               HttpTemplateCacheKey.forHeader(
-                                  responseDefinition, header.key(), index++),
+                                  stubId, responseDefinition, header.key(), index++),
                               headerValue);
                       valueListBuilder.add(uncheckedApplyTemplate(template, model));
                     }
@@ -127,7 +133,7 @@ public class ResponseTemplateTransformer
       if (responseDefinition.getProxyBaseUrl() != null) {
         HandlebarsOptimizedTemplate proxyBaseUrlTemplate =
             templateEngine.getTemplate(
-                HttpTemplateCacheKey.forProxyUrl(responseDefinition),
+                HttpTemplateCacheKey.forProxyUrl(stubId, responseDefinition),
                 responseDefinition.getProxyBaseUrl());
         String newProxyBaseUrl = uncheckedApplyTemplate(proxyBaseUrlTemplate, model);
 
@@ -144,7 +150,7 @@ public class ResponseTemplateTransformer
                         HandlebarsOptimizedTemplate template =
                             templateEngine.getTemplate(
                                 HttpTemplateCacheKey.forHeader(
-                                    responseDefinition, header.key(), index++),
+                                    stubId, responseDefinition, header.key(), index++),
                                 headerValue);
                         valueListBuilder.add(uncheckedApplyTemplate(template, model));
                       }
@@ -194,18 +200,33 @@ public class ResponseTemplateTransformer
 
   private EntityDefinition applyTemplateToBodyEntity(
       Map<String, Object> model, HandlebarsOptimizedTemplate bodyTemplate) {
-    String bodyString = uncheckedApplyTemplate(bodyTemplate, model);
-    return EntityDefinition.builder().setFormat(Format.JSON).setData(bodyString).build();
+    final RenderBuffer body = new RenderBuffer(bodyTemplate.estimatedLength());
+    bodyTemplate.apply(model, new BufferedWriter(new OutputStreamWriter(body, UTF_8)));
+    return body.toEntityDefinition();
   }
 
   private String uncheckedApplyTemplate(HandlebarsOptimizedTemplate template, Object context) {
     return template.apply(context);
   }
 
+  @Override
+  public void contributeAdminApiRoutes(Router router) {
+    router.add(
+        RequestMethod.GET,
+        "/templates/cache",
+        (admin, serveEvent, pathParams) -> ResponseDefinition.okForJson(getCacheStatistics()));
+  }
+
+  @Override
+  @NullMarked
+  public void afterStubEdited(StubMapping oldStub, StubMapping newStub) {
+    templateEngine.invalidateCacheForStub(oldStub.getId());
+  }
+
   @Override
   @NullMarked
   public void afterStubRemoved(StubMapping stub) {
-    templateEngine.invalidateCache();
+    templateEngine.invalidateCacheForStub(stub.getId());
   }
 
   @Override
@@ -217,7 +238,23 @@ public class ResponseTemplateTransformer
     return templateEngine.getCacheSize();
   }
 
+  public TemplateCacheStatistics getCacheStatistics() {
+    return templateEngine.getCacheStatistics();
+  }
+
   public Long getMaxCacheEntries() {
     return templateEngine.getMaxCacheEntries();
   }
+
+  // Hands over the buffer the body was rendered into rather than a copy trimmed to size
+  private static class RenderBuffer extends ByteArrayOutputStream {
+
+    RenderBuffer(int initialSize) {
+      super(initialSize);
+    }
+
+    EntityDefinition toEntityDefinition() {
+      return EntityDefinition.fromBuffer(buf, count, Format.JSON, UTF_8);
+    }
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.extension.responsetemplating;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class TemplateCacheStatistics {
+
+  private final long size;
+  private final Long maxSize;
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+
+  @JsonCreator
+  public TemplateCacheStatistics(
+      @JsonProperty("size") long size,
+      @JsonProperty("maxSize") Long maxSize,
+      @JsonProperty("hitCount") long hitCount,
+      @JsonProperty("missCount") long missCount,
+      @JsonProperty("evictionCount") long evictionCount) {
+    this.size = size;
+    this.maxSize = maxSize;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public Long getMaxSize() {
+    return maxSize;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Templates dropped to stay within the maximum size, as opposed to invalidated by stub changes.
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+}
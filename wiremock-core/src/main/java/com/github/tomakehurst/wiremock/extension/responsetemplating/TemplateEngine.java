@@ -37,17 +37,23 @@ import com.github.tomakehurst.wiremock.http.ResponseDefinition;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ExecutionError;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class TemplateEngine {
 
   private final Handlebars handlebars;
   private final Cache<Object, HandlebarsOptimizedTemplate> cache;
+  private final Map<UUID, Set<HttpTemplateCacheKey>> cacheKeysByStub = new ConcurrentHashMap<>();
   private final Long maxCacheEntries;
 
   private final List<TemplateModelDataProviderExtension> templateModelDataProviders;
@@ -68,7 +74,8 @@ public class TemplateEngine {
 
     this.maxCacheEntries = maxCacheEntries;
     this.templateModelDataProviders = templateModelDataProviders;
-    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+    CacheBuilder<Object, HandlebarsOptimizedTemplate> cacheBuilder =
+        CacheBuilder.newBuilder().recordStats().removalListener(this::forgetCacheKey);
     if (maxCacheEntries != null) {
       cacheBuilder.maximumSize(maxCacheEntries);
     }
@@ -115,12 +122,30 @@ public class TemplateEngine {
   }
 
   public HandlebarsOptimizedTemplate getTemplate(final Object key, final String content) {
+    return getTemplate(key, () -> content);
+  }
+
+  /**
+   * As {@link #getTemplate(Object, String)}, but only fetches the template content on a cache miss,
+   * so that a hit never has to load or decode what may be a large body.
+   */
+  public HandlebarsOptimizedTemplate getTemplate(
+      final Object key, final Supplier<String> contentSupplier) {
     if (maxCacheEntries != null && maxCacheEntries < 1) {
-      return getUncachedTemplate(content);
+      return getUncachedTemplate(contentSupplier.get());
     }
 
+    final AtomicReference<Set<HttpTemplateCacheKey>> rememberedIn = new AtomicReference<>();
     try {
-      return cache.get(key, () -> getUncachedTemplate(content));
+      final HandlebarsOptimizedTemplate template =
+          cache.get(
+              key,
+              () -> {
+                rememberedIn.set(rememberCacheKey(key));
+                return getUncachedTemplate(contentSupplier.get());
+              });
+      forgetIfInvalidatedWhileLoading(key, rememberedIn.get());
+      return template;
     } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
       return Exceptions.throwUnchecked(e.getCause(), null);
     }
@@ -239,8 +264,59 @@ public class TemplateEngine {
     return cache.size();
   }
 
+  public TemplateCacheStatistics getCacheStatistics() {
+    final CacheStats stats = cache.stats();
+    return new TemplateCacheStatistics(
+        cache.size(), maxCacheEntries, stats.hitCount(), stats.missCount(), stats.evictionCount());
+  }
+
   public void invalidateCache() {
     cache.invalidateAll();
+    cacheKeysByStub.clear();
+  }
+
+  /** Drops the templates compiled from the given stub, leaving every other stub's in place. */
+  public void invalidateCacheForStub(UUID stubId) {
+    final Set<HttpTemplateCacheKey> keys = cacheKeysByStub.remove(stubId);
+    if (keys != null) {
+      cache.invalidateAll(keys);
+    }
+  }
+
+  /** Returns the set the key was recorded in, or null if the key isn't tracked by stub. */
+  private Set<HttpTemplateCacheKey> rememberCacheKey(Object key) {
+    if (key instanceof HttpTemplateCacheKey httpKey && httpKey.getStubId() != null) {
+      final Set<HttpTemplateCacheKey> keys =
+          cacheKeysByStub.computeIfAbsent(httpKey.getStubId(), id -> ConcurrentHashMap.newKeySet());
+      keys.add(httpKey);
+      return keys;
+    }
+
+    return null;
+  }
+
+  /**
+   * The key is recorded before its template is loaded, but the template is only inserted once it
+   * has loaded, so an invalidation in between takes the recorded key without removing the template.
+   * If the set the key was recorded in has been taken away since, the template is dropped here
+   * instead of being left in the cache untracked.
+   */
+  private void forgetIfInvalidatedWhileLoading(Object key, Set<HttpTemplateCacheKey> rememberedIn) {
+    if (rememberedIn != null
+        && cacheKeysByStub.get(((HttpTemplateCacheKey) key).getStubId()) != rememberedIn) {
+      cache.invalidate(key);
+    }
+  }
+
+  private void forgetCacheKey(RemovalNotification<Object, HandlebarsOptimizedTemplate> removal) {
+    if (removal.getKey() instanceof HttpTemplateCacheKey httpKey && httpKey.getStubId() != null) {
+      cacheKeysByStub.computeIfPresent(
+          httpKey.getStubId(),
+          (id, keys) -> {
+            keys.remove(httpKey);
+            return keys.isEmpty() ? null : keys;
+          });
+    }
   }
 
   public Long getMaxCacheEntries() {
@@ -15,16 +15,25 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+import static com.github.tomakehurst.wiremock.http.Response.response;
 import static com.github.tomakehurst.wiremock.stubbing.ServeEvent.ORIGINAL_SERVE_EVENT_KEY;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 
 import com.github.tomakehurst.wiremock.common.DataTruncationSettings;
 import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.extension.requestfilter.*;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public abstract class AbstractRequestHandler implements RequestHandler, RequestEventSource {
 
@@ -73,8 +82,89 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
       serveEvent = handleRequest(serveEvent);
     }
 
+    CompletableFuture<Response> futureResponse = responseRenderer.renderAsync(serveEvent);
+    Optional<Executor> deferredResponseExecutor =
+        futureResponse.isDone() ? Optional.empty() : httpResponder.deferResponse();
+    if (deferredResponseExecutor.isPresent()) {
+      final ServeEvent renderingServeEvent = serveEvent;
+      futureResponse.whenCompleteAsync(
+          (response, error) -> {
+            Response sent = null;
+            try {
+              sent = completeDeferredRendering(renderingServeEvent, response, error);
+              respond(request, httpResponder, renderingServeEvent, sent);
+            } finally {
+              releaseBody(response, sent);
+            }
+          },
+          deferredResponseExecutor.get());
+      // The rest of the response is handled on another thread, which clears its own request cache
+      // when it responds, so this thread's has to be cleared before it goes on to other requests
+      RequestCache.onRequestEnd();
+      return;
+    }
+
+    final Response rendered = getResponse(futureResponse);
+    Response sent = null;
+    try {
+      sent = responseRenderer.completeRendering(serveEvent, rendered);
+      respond(request, httpResponder, serveEvent, sent);
+    } finally {
+      releaseBody(rendered, sent);
+    }
+  }
+
+  /**
+   * A body still arriving from elsewhere, such as a streamed proxy response, holds a connection
+   * until it is read to the end or closed. Writing it closes it, but a transformer may have replaced
+   * it or an error may have stopped it being written, so it is closed here once the response is
+   * done. The exception is a body that is still being dribbled out, which its writer closes.
+   */
+  private static void releaseBody(Response rendered, Response sent) {
+    if (rendered == null
+        || !(rendered.getBodyEntity().getStreamSource() instanceof Closeable body)) {
+      return;
+    }
+
+    final boolean stillBeingWritten =
+        sent != null
+            && sent.getFault() == null
+            && sent.shouldAddChunkedDribbleDelay()
+            && sent.getBodyEntity().getStreamSource() == body;
+    if (!stillBeingWritten) {
+      try {
+        body.close();
+      } catch (IOException e) {
+        notifier().error("Failed to release the body of a response", e);
+      }
+    }
+  }
+
+  private Response completeDeferredRendering(
+      ServeEvent serveEvent, Response response, Throwable error) {
+    if (error == null) {
+      try {
+        return responseRenderer.completeRendering(serveEvent, response);
+      } catch (RuntimeException e) {
+        error = e;
+      }
+    }
+
+    notifier().error("Failed to render the response to a deferred request", error);
+    return response().status(HTTP_INTERNAL_ERROR).build();
+  }
+
+  private static Response getResponse(CompletableFuture<Response> futureResponse) {
+    try {
+      return futureResponse.join();
+    } catch (CompletionException e) {
+      return throwUnchecked(e.getCause(), Response.class);
+    }
+  }
+
+  private void respond(
+      Request request, HttpResponder httpResponder, ServeEvent serveEvent, Response response) {
     ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-    Response response = responseRenderer.render(serveEvent);
     response = Response.Builder.like(response).protocol(request.getProtocol()).build();
     serveEvent = serveEvent.complete(response, dataTruncationSettings);
 
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import static com.github.tomakehurst.wiremock.admin.Conversions.toBoolean;
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static com.github.tomakehurst.wiremock.core.WireMockApp.ADMIN_CONTEXT_ROOT_SEGMENT;
 import static org.wiremock.url.SchemeRegistry.https;
@@ -23,6 +24,7 @@ import com.github.tomakehurst.wiremock.admin.AdminRoutes;
 import com.github.tomakehurst.wiremock.admin.AdminTask;
 import com.github.tomakehurst.wiremock.admin.NotFoundException;
 import com.github.tomakehurst.wiremock.common.*;
+import com.github.tomakehurst.wiremock.common.entity.StreamedJsonEntityDefinition;
 import com.github.tomakehurst.wiremock.common.url.PathParams;
 import com.github.tomakehurst.wiremock.common.url.PathTemplate;
 import com.github.tomakehurst.wiremock.core.Admin;
@@ -89,7 +91,7 @@ public class AdminRequestHandler extends AbstractRequestHandler {
       PathParams pathParams = uriTemplate.parse(path);
 
       return initialServeEvent.withResponseDefinition(
-          adminTask.execute(admin, initialServeEvent, pathParams));
+          prettyPrintIfRequested(request, adminTask.execute(admin, initialServeEvent, pathParams)));
     } catch (NotFoundException e) {
       return initialServeEvent.withResponseDefinition(ResponseDefinition.notConfigured());
     } catch (InvalidParameterException ipe) {
@@ -109,6 +111,16 @@ public class AdminRequestHandler extends AbstractRequestHandler {
     }
   }
 
+  private static ResponseDefinition prettyPrintIfRequested(
+      Request request, ResponseDefinition responseDefinition) {
+    if (responseDefinition.getBodyEntity() instanceof StreamedJsonEntityDefinition streamedJson
+        && toBoolean(request.getPathAndQueryWithoutPrefix().getQueryOrEmpty(), "pretty")) {
+      return responseDefinition.transform(builder -> builder.setBody(streamedJson.prettyPrinted()));
+    }
+
+    return responseDefinition;
+  }
+
   private static Path withoutAdminRoot(Path url) {
     return Path.of(
         url.getSegments().stream()
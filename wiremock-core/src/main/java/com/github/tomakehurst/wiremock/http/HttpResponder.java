@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,18 @@
 package com.github.tomakehurst.wiremock.http;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 public interface HttpResponder {
   void respond(Request request, Response response, Map<String, Object> attributes);
+
+  /**
+   * Called when the response won't be ready until after the request handler has returned. Returns
+   * the executor that the response should be finished and sent on, or empty if this responder can
+   * only respond on the handling thread, in which case the handler waits for the response instead.
+   */
+  default Optional<Executor> deferResponse() {
+    return Optional.empty();
+  }
 }
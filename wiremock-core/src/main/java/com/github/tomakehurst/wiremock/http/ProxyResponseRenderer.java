@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.http.Response.response;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 
@@ -25,6 +26,8 @@ import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import javax.net.ssl.SSLException;
 import org.wiremock.url.AbsoluteUrl;
@@ -41,6 +44,7 @@ public class ProxyResponseRenderer implements ResponseRenderer {
   private final SettingsStore settingsStore;
   private final boolean stubCorsEnabled;
   private final Set<String> supportedEncodings;
+  private final boolean streamResponses;
 
   @SuppressWarnings("unused")
   public ProxyResponseRenderer(
@@ -70,11 +74,33 @@ public class ProxyResponseRenderer implements ResponseRenderer {
       HttpClient reverseProxyClient,
       HttpClient forwardProxyClient) {
 
+    this(
+        preserveHostHeader,
+        hostHeaderValue,
+        settingsStore,
+        stubCorsEnabled,
+        supportedEncodings,
+        false,
+        reverseProxyClient,
+        forwardProxyClient);
+  }
+
+  public ProxyResponseRenderer(
+      boolean preserveHostHeader,
+      String hostHeaderValue,
+      SettingsStore settingsStore,
+      boolean stubCorsEnabled,
+      Set<String> supportedEncodings,
+      boolean streamResponses,
+      HttpClient reverseProxyClient,
+      HttpClient forwardProxyClient) {
+
     this.settingsStore = settingsStore;
     this.preserveHostHeader = preserveHostHeader;
     this.hostHeaderValue = hostHeaderValue;
     this.stubCorsEnabled = stubCorsEnabled;
     this.supportedEncodings = supportedEncodings;
+    this.streamResponses = streamResponses;
 
     this.forwardProxyClient = forwardProxyClient;
     this.reverseProxyClient = reverseProxyClient;
@@ -82,26 +108,69 @@ public class ProxyResponseRenderer implements ResponseRenderer {
 
   @Override
   public Response render(ServeEvent serveEvent) {
-    ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
-
     AbsoluteUrl proxyUrl = getProxyUrl(serveEvent);
     if (proxyUrl == null) {
-      return response()
-          .status(HTTP_INTERNAL_ERROR)
-          .headers(new HttpHeaders(new HttpHeader("Content-Type", "text/plain")))
-          .body(
-              "The target proxy address `"
-                  + serveEvent.getResponseDefinition().getProxyBaseUrl()
-                  + "` is not an absolute URL.")
-          .build();
+      return invalidProxyUrlResponse(serveEvent);
+    }
+
+    Request request = buildProxyRequest(serveEvent, proxyUrl);
+    HttpClient client = chooseClient(serveEvent.getRequest().isBrowserProxyRequest());
+
+    try {
+      final Response httpResponse =
+          streamResponses ? client.executeStreaming(request) : client.execute(request);
+      return toProxiedResponse(httpResponse, serveEvent.getResponseDefinition());
+    } catch (ProhibitedNetworkAddressException e) {
+      return prohibitedNetworkAddressResponse();
+    } catch (SSLException e) {
+      return proxyResponseError("SSL", request, e);
+    } catch (IOException e) {
+      return proxyResponseError("Network", request, e);
     }
+  }
+
+  /**
+   * Sends the proxied request with {@link HttpClient#executeAsync(Request)}, so that nothing waits
+   * on the target when the client is asynchronous. Streamed responses are rendered synchronously,
+   * since they are read from the connection as they are sent on.
+   */
+  @Override
+  public CompletableFuture<Response> renderAsync(ServeEvent serveEvent) {
+    AbsoluteUrl proxyUrl = getProxyUrl(serveEvent);
+    if (streamResponses || proxyUrl == null) {
+      return CompletableFuture.completedFuture(render(serveEvent));
+    }
+
+    Request request = buildProxyRequest(serveEvent, proxyUrl);
+    HttpClient client = chooseClient(serveEvent.getRequest().isBrowserProxyRequest());
+
+    return client
+        .executeAsync(request)
+        .handle(
+            (httpResponse, error) -> {
+              if (error == null) {
+                return toProxiedResponse(httpResponse, serveEvent.getResponseDefinition());
+              }
+
+              Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+              if (cause instanceof ProhibitedNetworkAddressException) {
+                return prohibitedNetworkAddressResponse();
+              } else if (cause instanceof SSLException sslException) {
+                return proxyResponseError("SSL", request, sslException);
+              } else if (cause instanceof IOException ioException) {
+                return proxyResponseError("Network", request, ioException);
+              }
+
+              return throwUnchecked(cause, Response.class);
+            });
+  }
+
+  private Request buildProxyRequest(ServeEvent serveEvent, AbsoluteUrl proxyUrl) {
     final ImmutableRequest.Builder requestBuilder =
         ImmutableRequest.create()
             .withAbsoluteUrl(proxyUrl)
             .withMethod(serveEvent.getRequest().getMethod());
-    addRequestHeaders(requestBuilder, responseDefinition, serveEvent.getRequest());
-
-    GlobalSettings settings = settingsStore.get();
+    addRequestHeaders(requestBuilder, serveEvent.getResponseDefinition(), serveEvent.getRequest());
 
     Request originalRequest = serveEvent.getRequest();
 
@@ -112,35 +181,41 @@ public class ProxyResponseRenderer implements ResponseRenderer {
       requestBuilder.withBody(originalRequest.getBody());
     }
 
-    Request request = requestBuilder.build();
+    return requestBuilder.build();
+  }
 
-    HttpClient client = chooseClient(serveEvent.getRequest().isBrowserProxyRequest());
+  private Response toProxiedResponse(Response httpResponse, ResponseDefinition responseDefinition) {
+    GlobalSettings settings = settingsStore.get();
 
-    try {
-      final Response httpResponse = client.execute(request);
-      final Response.Builder responseBuilder =
-          Response.Builder.like(httpResponse)
-              .fromProxy(true)
-              .headers(headersFrom(httpResponse, responseDefinition))
-              .configureDelay(
-                  settings.getFixedDelay(),
-                  settings.getDelayDistribution(),
-                  responseDefinition.getFixedDelayMilliseconds(),
-                  responseDefinition.getDelayDistribution())
-              .chunkedDribbleDelay(responseDefinition.getChunkedDribbleDelay());
-
-      return responseBuilder.build();
-    } catch (ProhibitedNetworkAddressException e) {
-      return response()
-          .status(HTTP_INTERNAL_ERROR)
-          .headers(new HttpHeaders(new HttpHeader("Content-Type", "text/plain")))
-          .body("The target proxy address is denied in WireMock's configuration.")
-          .build();
-    } catch (SSLException e) {
-      return proxyResponseError("SSL", request, e);
-    } catch (IOException e) {
-      return proxyResponseError("Network", request, e);
-    }
+    return Response.Builder.like(httpResponse)
+        .fromProxy(true)
+        .headers(headersFrom(httpResponse, responseDefinition))
+        .configureDelay(
+            settings.getFixedDelay(),
+            settings.getDelayDistribution(),
+            responseDefinition.getFixedDelayMilliseconds(),
+            responseDefinition.getDelayDistribution())
+        .chunkedDribbleDelay(responseDefinition.getChunkedDribbleDelay())
+        .build();
+  }
+
+  private static Response invalidProxyUrlResponse(ServeEvent serveEvent) {
+    return response()
+        .status(HTTP_INTERNAL_ERROR)
+        .headers(new HttpHeaders(new HttpHeader("Content-Type", "text/plain")))
+        .body(
+            "The target proxy address `"
+                + serveEvent.getResponseDefinition().getProxyBaseUrl()
+                + "` is not an absolute URL.")
+        .build();
+  }
+
+  private static Response prohibitedNetworkAddressResponse() {
+    return response()
+        .status(HTTP_INTERNAL_ERROR)
+        .headers(new HttpHeaders(new HttpHeader("Content-Type", "text/plain")))
+        .body("The target proxy address is denied in WireMock's configuration.")
+        .build();
   }
 
   private AbsoluteUrl getProxyUrl(ServeEvent serveEvent) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,27 @@
 package com.github.tomakehurst.wiremock.http;
 
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.concurrent.CompletableFuture;
 
 public interface ResponseRenderer {
 
   Response render(ServeEvent serveEvent);
+
+  /**
+   * Like {@link #render(ServeEvent)}, but allows a renderer that has to wait on something else,
+   * such as a proxy target, to hand back the response later. The future may be completed on a
+   * client I/O thread, so the response it yields must be passed through {@link
+   * #completeRendering(ServeEvent, Response)}, on the thread that will send it, before it is final.
+   */
+  default CompletableFuture<Response> renderAsync(ServeEvent serveEvent) {
+    return CompletableFuture.completedFuture(render(serveEvent));
+  }
+
+  /**
+   * Finishes a response obtained from {@link #renderAsync(ServeEvent)}, doing any work that
+   * shouldn't happen on the thread that completed it, such as applying response transformers.
+   */
+  default Response completeRendering(ServeEvent serveEvent, Response response) {
+    return response;
+  }
 }
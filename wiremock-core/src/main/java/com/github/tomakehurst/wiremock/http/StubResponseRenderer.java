@@ -30,6 +30,7 @@ import com.github.tomakehurst.wiremock.store.files.BlobStoreFileSource;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class StubResponseRenderer implements ResponseRenderer {
 
@@ -62,15 +63,43 @@ public class StubResponseRenderer implements ResponseRenderer {
       return Response.notConfigured();
     }
 
-    Response response = buildResponse(serveEvent);
+    return transform(serveEvent, buildResponse(serveEvent));
+  }
+
+  /**
+   * Transformers are left to {@link #completeRendering(ServeEvent, Response)}, so that they don't
+   * run on the HTTP client's I/O thread when a proxied response arrives.
+   */
+  @Override
+  public CompletableFuture<Response> renderAsync(ServeEvent serveEvent) {
+    ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    if (!responseDefinition.wasConfigured()) {
+      return CompletableFuture.completedFuture(Response.notConfigured());
+    }
+
+    if (responseDefinition.isProxyResponse()) {
+      return proxyResponseRenderer.renderAsync(serveEvent);
+    }
+
+    return CompletableFuture.completedFuture(renderDirectly(serveEvent).build());
+  }
 
+  @Override
+  public Response completeRendering(ServeEvent serveEvent, Response response) {
+    return serveEvent.getResponseDefinition().wasConfigured()
+        ? transform(serveEvent, response)
+        : response;
+  }
+
+  private Response transform(ServeEvent serveEvent, Response response) {
     response =
         applyTransformations(
-            serveEvent.getRequest(), responseDefinition, response, responseTransformers);
-
-    response = applyV2Transformations(response, serveEvent, v2ResponseTransformers);
+            serveEvent.getRequest(),
+            serveEvent.getResponseDefinition(),
+            response,
+            responseTransformers);
 
-    return response;
+    return applyV2Transformations(response, serveEvent, v2ResponseTransformers);
   }
 
   private Response buildResponse(ServeEvent serveEvent) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface HttpClient {
 
@@ -35,4 +36,27 @@ public interface HttpClient {
   String ACCEPT_ENCODING_HEADER = "accept-encoding";
 
   Response execute(Request request) throws IOException;
+
+  /**
+   * Like {@link #execute(Request)}, but may leave the response body to be read from the connection
+   * as it is consumed rather than buffering it up front. The caller must read the body to the end
+   * or close it, if it is {@link java.io.Closeable}, so that the connection is released.
+   */
+  default Response executeStreaming(Request request) throws IOException {
+    return execute(request);
+  }
+
+  /**
+   * Sends the request without waiting for the response, where the client is able to. The returned
+   * future may be completed on one of the client's I/O threads, so anything slow done with the
+   * response should be moved elsewhere. Clients that can only block return a future that has
+   * already been completed by {@link #execute(Request)}.
+   */
+  default CompletableFuture<Response> executeAsync(Request request) {
+    try {
+      return CompletableFuture.completedFuture(execute(request));
+    } catch (IOException | RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
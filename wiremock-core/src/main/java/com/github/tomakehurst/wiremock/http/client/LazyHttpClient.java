@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2024-2025 Thomas Akehurst
+ * Copyright (C) 2024-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.common.Lazy;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public class LazyHttpClient implements HttpClient {
@@ -33,4 +34,14 @@ public class LazyHttpClient implements HttpClient {
   public Response execute(Request request) throws IOException {
     return httpClientLazy.get().execute(request);
   }
+
+  @Override
+  public Response executeStreaming(Request request) throws IOException {
+    return httpClientLazy.get().executeStreaming(request);
+  }
+
+  @Override
+  public CompletableFuture<Response> executeAsync(Request request) {
+    return httpClientLazy.get().executeAsync(request);
+  }
 }
@@ -15,12 +15,14 @@
  */
 package com.github.tomakehurst.wiremock.matching;
 
+import static com.github.tomakehurst.wiremock.common.RequestCache.Key.keyFor;
 import static com.github.tomakehurst.wiremock.stubbing.SubEvent.JSON_ERROR;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.Option;
@@ -76,7 +78,12 @@ public class EqualToJsonPattern extends StringValuePattern {
     final JsonNode actual;
     final Diff diff;
     try {
-      actual = Json.read(value, JsonNode.class);
+      // Parsed once per request and shared by every equalToJson pattern, so must not be mutated
+      actual =
+          RequestCache.getCurrent()
+              .get(
+                  keyFor(JsonNode.class, "parsedJsonTree", value),
+                  () -> Json.read(value, JsonNode.class));
       diff =
           Diff.create(
               expected, // JsonUnit knows how to work with JsonNode
@@ -17,12 +17,15 @@ package com.github.tomakehurst.wiremock.matching;
 
 import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+import static com.github.tomakehurst.wiremock.common.RequestCache.Key.keyFor;
 import static com.github.tomakehurst.wiremock.common.Strings.isNullOrEmpty;
 import static org.xmlunit.diff.ComparisonType.*;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlException;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -171,7 +174,7 @@ public class EqualToXmlPattern extends StringValuePattern {
         try {
           DiffBuilder diffBuilder =
               DiffBuilder.compare(Input.from(expectedXmlDoc))
-                  .withTest(value)
+                  .withTest(testInput(value))
                   .withComparisonController(ComparisonControllers.StopWhenDifferent)
                   .ignoreWhitespace()
                   .withDifferenceEvaluator(diffEvaluator)
@@ -212,7 +215,7 @@ public class EqualToXmlPattern extends StringValuePattern {
         try {
           DiffBuilder diffBuilder =
               DiffBuilder.compare(Input.from(expectedValue))
-                  .withTest(value)
+                  .withTest(testInput(value))
                   .ignoreWhitespace()
                   .withDifferenceEvaluator(diffEvaluator)
                   .withComparisonListeners(
@@ -256,6 +259,27 @@ public class EqualToXmlPattern extends StringValuePattern {
   private static final DocumentBuilderFactory namespaceAware = newDocumentBuilderFactory(true);
   private static final DocumentBuilderFactory namespaceUnaware = newDocumentBuilderFactory(false);
 
+  /**
+   * The request body parsed with this pattern's document builder factory, shared with every other
+   * equalToXml pattern using the same factory for the rest of the request. XMLUnit copies the test
+   * document when stripping whitespace or comments, so the shared DOM is never modified. A body
+   * that fails to parse is handed to XMLUnit as a string so that it reports the error as before.
+   */
+  private Object testInput(String value) {
+    final Optional<Document> document =
+        RequestCache.getCurrent()
+            .get(
+                keyFor(Document.class, documentBuilderFactory, value),
+                () -> {
+                  try {
+                    return Optional.of(Xml.read(value, documentBuilderFactory));
+                  } catch (XmlException e) {
+                    return Optional.empty();
+                  }
+                });
+    return document.isPresent() ? document.get() : value;
+  }
+
   private static DocumentBuilderFactory getDocumentBuilderFactory(
       NamespaceAwareness namespaceAwareness) {
     if (namespaceAwareness == null || namespaceAwareness == NamespaceAwareness.STRICT) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,14 +24,15 @@ import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.wiremock.annotations.Beta;
 
 public abstract class MatchResult implements Comparable<MatchResult> {
 
-  private final Queue<SubEvent> subEvents;
+  // Most results never carry a sub-event, so the queue is only created once one is added
+  private volatile Queue<SubEvent> subEvents;
   private final List<DiffDescription> diffDescriptions;
 
   public MatchResult() {
@@ -47,16 +48,26 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public MatchResult(List<SubEvent> subEvents, List<DiffDescription> diffDescriptions) {
-    this.subEvents = new LinkedBlockingQueue<>(subEvents);
+    this.subEvents = subEvents.isEmpty() ? null : new ConcurrentLinkedQueue<>(subEvents);
     this.diffDescriptions = diffDescriptions;
   }
 
   protected void appendSubEvent(SubEvent subEvent) {
-    subEvents.add(subEvent);
+    Queue<SubEvent> queue = subEvents;
+    if (queue == null) {
+      synchronized (this) {
+        if (subEvents == null) {
+          subEvents = new ConcurrentLinkedQueue<>();
+        }
+        queue = subEvents;
+      }
+    }
+    queue.add(subEvent);
   }
 
   public List<SubEvent> getSubEvents() {
-    return new ArrayList<>(subEvents);
+    final Queue<SubEvent> queue = subEvents;
+    return queue != null ? new ArrayList<>(queue) : new ArrayList<>();
   }
 
   public List<DiffDescription> getDiffDescriptions() {
@@ -200,11 +200,10 @@ public class MatchesJsonPathPattern extends PathPattern {
     final RequestCache requestCache = RequestCache.getCurrent();
 
     final DocumentContext documentContext =
-        requestCache.get(
-            keyFor(JsonNode.class, "parsedJson", value.hashCode()), () -> JsonPath.parse(value));
+        requestCache.get(keyFor(JsonNode.class, "parsedJson", value), () -> JsonPath.parse(value));
 
     return requestCache.get(
-        keyFor(JsonNode.class, "jsonPathResult", expectedValue, value.hashCode()),
+        keyFor(JsonNode.class, "jsonPathResult", expectedValue, value),
         () -> documentContext.read(jsonPath));
   }
 }
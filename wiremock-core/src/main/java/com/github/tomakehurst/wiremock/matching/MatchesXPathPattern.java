@@ -17,11 +17,13 @@ package com.github.tomakehurst.wiremock.matching;
 
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
+import static com.github.tomakehurst.wiremock.common.RequestCache.Key.keyFor;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import com.github.tomakehurst.wiremock.common.RequestCache;
 import com.github.tomakehurst.wiremock.common.xml.*;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
@@ -31,6 +33,7 @@ import java.util.stream.Collectors;
 public class MatchesXPathPattern extends PathPattern {
 
   private final Map<String, String> xpathNamespaces;
+  private final CompiledXPath compiledXPath;
 
   public MatchesXPathPattern(String xpath) {
     this(xpath, null, null);
@@ -50,6 +53,7 @@ public class MatchesXPathPattern extends PathPattern {
       @JsonProperty("valuePattern") StringValuePattern valuePattern) {
     super(xpath, valuePattern);
     xpathNamespaces = namespaces == null || namespaces.isEmpty() ? null : namespaces;
+    compiledXPath = new CompiledXPath(xpath, xpathNamespaces);
   }
 
   public MatchesXPathPattern withXPathNamespace(String name, String namespaceUri) {
@@ -111,8 +115,9 @@ public class MatchesXPathPattern extends PathPattern {
     }
 
     try {
-      XmlDocument xmlDocument = Xml.parse(value);
-      return new XmlNodeFindResult(xmlDocument.findNodes(expectedValue, xpathNamespaces));
+      XmlDocument xmlDocument =
+          RequestCache.getCurrent().get(keyFor(XmlDocument.class, value), () -> Xml.parse(value));
+      return new XmlNodeFindResult(xmlDocument.findNodes(compiledXPath));
     } catch (XmlException e) {
       final String message =
           String.format(
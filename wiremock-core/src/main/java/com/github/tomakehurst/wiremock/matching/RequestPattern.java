@@ -41,6 +41,7 @@ import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import com.github.tomakehurst.wiremock.http.RequestPathParamsDecorator;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import com.google.common.collect.ImmutableMap;
 import java.util.*;
 import java.util.function.Consumer;
@@ -153,17 +154,17 @@ public class RequestPattern implements NamedValueMatcher<Request> {
           public MatchResult match(Request request) {
             final List<WeightedMatchResult> requestPartMatchResults = new ArrayList<>(15);
 
-            requestPartMatchResults.add(weight(schemeMatches(request), 3.0));
-            requestPartMatchResults.add(weight(hostMatches(request), 10.0));
-            requestPartMatchResults.add(weight(portMatches(request), 10.0));
-            requestPartMatchResults.add(weight(clientIpMatches(request), 3.0));
+            requestPartMatchResults.add(weight(schemeMatches(request), SCHEME_WEIGHT));
+            requestPartMatchResults.add(weight(hostMatches(request), HOST_WEIGHT));
+            requestPartMatchResults.add(weight(portMatches(request), PORT_WEIGHT));
+            requestPartMatchResults.add(weight(clientIpMatches(request), CLIENT_IP_WEIGHT));
             requestPartMatchResults.add(
                 weight(
                     RequestPattern.this.url.match(
                         request.getPathAndQueryWithoutPrefix().toString()),
-                    10.0));
+                    URL_WEIGHT));
             requestPartMatchResults.add(
-                weight(RequestPattern.this.method.match(request.getMethod()), 3.0));
+                weight(RequestPattern.this.method.match(request.getMethod()), METHOD_WEIGHT));
 
             MatchResult matchResult =
                 new MemoizingMatchResult(MatchResult.aggregateWeighted(requestPartMatchResults));
@@ -197,6 +198,15 @@ public class RequestPattern implements NamedValueMatcher<Request> {
         };
   }
 
+  private static final double SCHEME_WEIGHT = 3.0;
+  private static final double HOST_WEIGHT = 10.0;
+  private static final double PORT_WEIGHT = 10.0;
+  private static final double CLIENT_IP_WEIGHT = 3.0;
+  private static final double URL_WEIGHT = 10.0;
+  private static final double METHOD_WEIGHT = 3.0;
+  private static final double FIRST_PARTS_TOTAL_WEIGHT =
+      SCHEME_WEIGHT + HOST_WEIGHT + PORT_WEIGHT + CLIENT_IP_WEIGHT + URL_WEIGHT + METHOD_WEIGHT;
+
   public static final RequestPattern ANYTHING =
       newRequestPattern(RequestMethod.ANY, anyUrl()).build();
 
@@ -388,7 +398,86 @@ public class RequestPattern implements NamedValueMatcher<Request> {
   }
 
   public boolean isMatchedBy(Request request, Map<String, RequestMatcherExtension> customMatchers) {
-    return match(request, customMatchers).isExactMatch();
+    return isMatchedBy(request, customMatchers, subEvent -> {});
+  }
+
+  /**
+   * A lower bound on {@code match(request).getDistance()}, worked out from only the scheme, port
+   * and method, which are cheap to compare. A mismatch in any of them means the distance is the
+   * weighted average of the first group of request parts, to which each mismatch contributes its
+   * full weight, so callers ranking many patterns can discard one that cannot make the cut without
+   * evaluating its other matchers.
+   */
+  public double distanceLowerBound(Request request) {
+    double mismatchedWeight = 0;
+    if (scheme != null && !scheme.equals(request.getScheme())) {
+      mismatchedWeight += SCHEME_WEIGHT;
+    }
+    if (port != null && request.getPort() != port) {
+      mismatchedWeight += PORT_WEIGHT;
+    }
+    if (!method.match(request.getMethod()).isExactMatch()) {
+      mismatchedWeight += METHOD_WEIGHT;
+    }
+
+    return mismatchedWeight / FIRST_PARTS_TOTAL_WEIGHT;
+  }
+
+  /**
+   * Answers the same question as {@code match(request, customMatchers).isExactMatch()}, but stops
+   * at the first request part that doesn't match and skips parts the pattern doesn't constrain,
+   * without building the weighted aggregate that only a distance needs. Use {@link #match} where a
+   * near miss or diff is wanted.
+   *
+   * <p>Parts are evaluated in the same order as {@link #match}, and the sub-events of every part
+   * evaluated are passed to {@code subEventConsumer}, which is what the aggregate would report.
+   */
+  public boolean isMatchedBy(
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer) {
+    request = RequestPathParamsDecorator.decorate(request, this);
+
+    if ((scheme != null && !scheme.equals(request.getScheme()))
+        || (host != null && !isExactMatch(host.match(request.getHost()), subEventConsumer))
+        || (port != null && request.getPort() != port)
+        || (clientIp != null
+            && !isExactMatch(clientIp.match(request.getClientIp()), subEventConsumer))
+        || !isExactMatch(
+            url.match(request.getPathAndQueryWithoutPrefix().toString()), subEventConsumer)
+        || !method.match(request.getMethod()).isExactMatch()) {
+      return false;
+    }
+
+    if ((!pathParams.isEmpty() && !isExactMatch(allPathParamsMatch(request), subEventConsumer))
+        || ((!headers.isEmpty() || basicAuthCredentials != null)
+            && !isExactMatch(allHeadersMatchResult(request), subEventConsumer))
+        || (!queryParams.isEmpty() && !isExactMatch(allQueryParamsMatch(request), subEventConsumer))
+        || (!formParams.isEmpty() && !isExactMatch(allFormParamsMatch(request), subEventConsumer))
+        || (!cookies.isEmpty() && !isExactMatch(allCookiesMatch(request), subEventConsumer))
+        || (!bodyPatterns.isEmpty()
+            && !isExactMatch(allBodyPatternsMatch(request), subEventConsumer))
+        || (!multipartPatterns.isEmpty()
+            && !isExactMatch(allMultipartPatternsMatch(request), subEventConsumer))
+        || (inlineCustomMatcher != null
+            && !isExactMatch(inlineCustomMatcher.match(request), subEventConsumer))) {
+      return false;
+    }
+
+    if (customMatcherDefinition == null) {
+      return true;
+    }
+
+    final RequestMatcherExtension requestMatcher =
+        getFirstNonNull(customMatchers.get(customMatcherDefinition.getName()), NEVER);
+    return isExactMatch(
+        requestMatcher.match(request, customMatcherDefinition.getParameters()), subEventConsumer);
+  }
+
+  private static boolean isExactMatch(MatchResult result, Consumer<SubEvent> subEventConsumer) {
+    final boolean exactMatch = result.isExactMatch();
+    result.getSubEvents().forEach(subEventConsumer);
+    return exactMatch;
   }
 
   public String getScheme() {
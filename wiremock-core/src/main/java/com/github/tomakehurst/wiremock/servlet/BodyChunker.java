@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2017-2025 Thomas Akehurst
+ * Copyright (C) 2017-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,44 +22,52 @@ import java.util.Arrays;
 public class BodyChunker {
 
   public static byte[][] chunkBody(byte[] body, int numberOfChunks) {
+    int[] chunkSizes = chunkSizes(body.length, numberOfChunks);
+
+    byte[][] chunkedBody = new byte[chunkSizes.length][];
+
+    int chunkStart = 0;
+    for (int chunkIndex = 0; chunkIndex < chunkSizes.length; chunkIndex++) {
+      int chunkEnd = chunkStart + chunkSizes[chunkIndex];
+      chunkedBody[chunkIndex] = Arrays.copyOfRange(body, chunkStart, chunkEnd);
+      chunkStart = chunkEnd;
+    }
+
+    return chunkedBody;
+  }
+
+  /**
+   * Splits a body of the given length into chunk sizes without needing the body itself, so that it
+   * can be streamed a chunk at a time. Any excess bytes are added to the last chunk.
+   */
+  public static int[] chunkSizes(long bodyLength, int numberOfChunks) {
 
     if (numberOfChunks < 1) {
       notifier().error("Number of chunks set to value less than 1: " + numberOfChunks);
       numberOfChunks = 1;
     }
 
-    if (body.length < numberOfChunks) {
+    if (bodyLength < numberOfChunks) {
       notifier()
           .error(
               "Number of chunks set to value greater then body length. Number of chunks: "
                   + numberOfChunks
                   + ". Body length: "
-                  + body.length
+                  + bodyLength
                   + ". Overriding number of chunks to body length.");
-      numberOfChunks = body.length;
+      numberOfChunks = (int) bodyLength;
     }
 
-    int chunkSize = body.length / numberOfChunks;
-    int excessSize = body.length % numberOfChunks;
+    int chunkSize = Math.toIntExact(bodyLength / numberOfChunks);
+    int excessSize = (int) (bodyLength % numberOfChunks);
 
-    byte[][] chunkedBody = new byte[numberOfChunks][];
-
-    for (int chunkIndex = 0; chunkIndex < numberOfChunks; chunkIndex++) {
-      int chunkStart = chunkIndex * chunkSize;
-      int chunkEnd = chunkStart + chunkSize;
-
-      chunkedBody[chunkIndex] = Arrays.copyOfRange(body, chunkStart, chunkEnd);
-    }
+    int[] chunkSizes = new int[numberOfChunks];
+    Arrays.fill(chunkSizes, chunkSize);
 
     if (excessSize > 0) {
-      int lastChunkIndex = numberOfChunks - 1;
-
-      int chunkStart = lastChunkIndex * chunkSize;
-      int newChunkEnd = chunkStart + chunkSize + excessSize;
-
-      chunkedBody[lastChunkIndex] = Arrays.copyOfRange(body, chunkStart, newChunkEnd);
+      chunkSizes[numberOfChunks - 1] += excessSize;
     }
 
-    return chunkedBody;
+    return chunkSizes;
   }
 }
@@ -18,16 +18,22 @@ package com.github.tomakehurst.wiremock.standalone;
 import static com.github.tomakehurst.wiremock.common.AbstractFileSource.byFileExtension;
 import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.common.Json.writePrivate;
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 
 import com.github.tomakehurst.wiremock.common.*;
 import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
 import com.github.tomakehurst.wiremock.message.MessageStubMapping;
 import com.github.tomakehurst.wiremock.message.MessageStubMappingOrMappings;
 import com.github.tomakehurst.wiremock.message.MessageStubMappings;
+import com.github.tomakehurst.wiremock.standalone.MappingsSnapshot.MappingFileContents;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.stubbing.StubMappingOrMappings;
 import com.github.tomakehurst.wiremock.stubbing.StubMappings;
 import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +47,14 @@ public class JsonFileMappingsSource implements MappingsSource {
   private final FileSource messageMappingsFileSource;
   private final Map<UUID, StubMappingFileMetadata> fileNameMap;
   private final FilenameMaker filenameMaker;
+  private final boolean snapshotEnabled;
+
+  // The stubs last loaded from the file system, so that loading them again while none of their
+  // files have changed (as on every reset to the default mappings) needn't read or parse anything.
+  // Forgotten on any write, which might land within the granularity of the files' timestamps.
+  private volatile LoadedMappingFiles lastLoaded;
+
+  private record LoadedMappingFiles(byte[] fingerprint, List<MappingFileContents> contents) {}
 
   public JsonFileMappingsSource(FileSource mappingsFileSource, FilenameMaker filenameMaker) {
     this(mappingsFileSource, null, filenameMaker);
@@ -50,9 +64,23 @@ public class JsonFileMappingsSource implements MappingsSource {
       FileSource mappingsFileSource,
       FileSource messageMappingsFileSource,
       FilenameMaker filenameMaker) {
+    this(mappingsFileSource, messageMappingsFileSource, filenameMaker, false);
+  }
+
+  /**
+   * @param snapshotEnabled whether to keep a snapshot of the loaded stubs in the mappings directory
+   *     and load from it when none of the mapping files have changed since it was written. Only
+   *     applies to mappings on the file system.
+   */
+  public JsonFileMappingsSource(
+      FileSource mappingsFileSource,
+      FileSource messageMappingsFileSource,
+      FilenameMaker filenameMaker,
+      boolean snapshotEnabled) {
     this.mappingsFileSource = mappingsFileSource;
     this.messageMappingsFileSource = messageMappingsFileSource;
     this.filenameMaker = Objects.requireNonNullElseGet(filenameMaker, FilenameMaker::new);
+    this.snapshotEnabled = snapshotEnabled;
     fileNameMap = new HashMap<>();
   }
 
@@ -77,6 +105,7 @@ public class JsonFileMappingsSource implements MappingsSource {
           "Stubs loaded from multi-mapping files are read-only, and therefore cannot be saved");
     }
 
+    lastLoaded = null;
     mappingsFileSource.writeTextFile(fileMetadata.path, writePrivate(stubMapping));
 
     fileNameMap.put(stubMapping.getId(), fileMetadata);
@@ -90,6 +119,7 @@ public class JsonFileMappingsSource implements MappingsSource {
           "Stubs loaded from multi-mapping files are read-only, and therefore cannot be removed");
     }
 
+    lastLoaded = null;
     mappingsFileSource.deleteFile(fileMetadata.path);
     fileNameMap.remove(stubMappingId);
   }
@@ -101,6 +131,7 @@ public class JsonFileMappingsSource implements MappingsSource {
           "Some stubs were loaded from multi-mapping files which are read-only, so remove all cannot be performed");
     }
 
+    lastLoaded = null;
     for (StubMappingFileMetadata fileMetadata : fileNameMap.values()) {
       mappingsFileSource.deleteFile(fileMetadata.path);
     }
@@ -117,28 +148,102 @@ public class JsonFileMappingsSource implements MappingsSource {
       return;
     }
 
+    final long start = System.nanoTime();
     List<TextFile> mappingFiles =
         mappingsFileSource.listFilesRecursively().stream()
             .filter(byFileExtension("json"))
             .collect(Collectors.toList());
-    for (TextFile mappingFile : mappingFiles) {
-      try {
-        StubMappingOrMappings stubCollection =
-            Json.read(mappingFile.readContents(), StubMappingOrMappings.class);
-        for (StubMapping mapping : stubCollection.getMappingOrMappings()) {
-          // Register file metadata before addMapping, because addMapping may trigger
-          // persistence which needs the file metadata to determine the target file path.
-          StubMappingFileMetadata fileMetadata =
-              new StubMappingFileMetadata(mappingFile.getPath(), stubCollection.isMulti());
-          fileNameMap.put(mapping.getId(), fileMetadata);
-          stubMappings.addMapping(mapping);
-        }
-      } catch (JsonException e) {
-        throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
-      } catch (IOException e) {
-        throwUnchecked(e);
+
+    final URI mappingsUri = mappingsFileSource.getUri();
+    final byte[] fingerprint =
+        mappingsUri != null && "file".equals(mappingsUri.getScheme())
+            ? fingerprint(mappingFiles)
+            : null;
+    final MappingsSnapshot snapshot =
+        snapshotEnabled && fingerprint != null && !mappingFiles.isEmpty()
+            ? new MappingsSnapshot(
+                Path.of(mappingsFileSource.getPath(), MappingsSnapshot.FILE_NAME))
+            : null;
+
+    final LoadedMappingFiles previous = lastLoaded;
+    List<MappingFileContents> fileContents = null;
+    String loadedVia = "";
+    if (previous != null && Arrays.equals(previous.fingerprint(), fingerprint)) {
+      fileContents = previous.contents();
+      loadedVia = " as previously loaded";
+    } else if (snapshot != null) {
+      fileContents = snapshot.read(fingerprint).orElse(null);
+      loadedVia = " via their snapshot";
+    }
+    if (fileContents == null) {
+      fileContents = readMappingFiles(mappingFiles);
+      loadedVia = "";
+      if (snapshot != null) {
+        snapshot.write(fingerprint, fileContents);
+      }
+    }
+    lastLoaded = fingerprint != null ? new LoadedMappingFiles(fingerprint, fileContents) : null;
+
+    List<StubMapping> mappings = new ArrayList<>();
+    for (MappingFileContents contents : fileContents) {
+      StubMappingFileMetadata fileMetadata =
+          new StubMappingFileMetadata(contents.path(), contents.multi());
+      for (StubMapping mapping : contents.mappings()) {
+        // Register file metadata before adding the mappings, because adding them may trigger
+        // persistence which needs the file metadata to determine the target file path.
+        fileNameMap.put(mapping.getId(), fileMetadata);
+        mappings.add(mapping);
       }
     }
+    stubMappings.addMappings(mappings);
+
+    if (!mappingFiles.isEmpty()) {
+      final double seconds = Math.max(System.nanoTime() - start, 1) / 1_000_000_000.0;
+      notifier()
+          .info(
+              String.format(
+                  "Loaded %d stub mappings from %d files%s in %.0fms (%.0f files/s, %.0f stubs/s)",
+                  mappings.size(),
+                  mappingFiles.size(),
+                  loadedVia,
+                  seconds * 1000,
+                  mappingFiles.size() / seconds,
+                  mappings.size() / seconds));
+    }
+  }
+
+  private static byte[] fingerprint(List<TextFile> mappingFiles) {
+    try {
+      return MappingsSnapshot.fingerprint(mappingFiles);
+    } catch (IOException e) {
+      // Most likely a file was removed while listing them, so there's nothing to compare against
+      return null;
+    }
+  }
+
+  // Files are read and parsed in parallel, but the stubs are added in file order so that their
+  // insertion indexes are the same as when they were loaded one at a time
+  private static List<MappingFileContents> readMappingFiles(List<TextFile> mappingFiles) {
+    return mappingFiles.parallelStream()
+        .map(
+            mappingFile -> {
+              StubMappingOrMappings stubCollection = readStubMappings(mappingFile);
+              return new MappingFileContents(
+                  mappingFile.getPath(),
+                  stubCollection.isMulti(),
+                  stubCollection.getMappingOrMappings());
+            })
+        .toList();
+  }
+
+  private static StubMappingOrMappings readStubMappings(TextFile mappingFile) {
+    try {
+      return Json.read(mappingFile.readContents(), StubMappingOrMappings.class);
+    } catch (JsonException e) {
+      throw new MappingFileException(mappingFile.getPath(), e.getErrors().first().getDetail());
+    } catch (IOException e) {
+      return throwUnchecked(e, StubMappingOrMappings.class);
+    }
   }
 
   @Override
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.standalone;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.TextFile;
+import com.github.tomakehurst.wiremock.core.Version;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * All of the stubs loaded from a mappings directory, saved in one file so that the next start can
+ * read them in a single pass instead of opening and parsing every mapping file. The snapshot is
+ * keyed on a hash of the WireMock version and the path, size and modification time of every mapping
+ * file, so it is ignored (and later replaced) as soon as any of them changes.
+ *
+ * <p>The file is a short binary header (magic number, format version and the hash) followed by the
+ * stubs as one compact JSON document.
+ */
+class MappingsSnapshot {
+
+  static final String FILE_NAME = ".mappings.snapshot";
+
+  private static final int MAGIC = 0x574d5353; // "WMSS"
+  private static final int FORMAT_VERSION = 1;
+  private static final int HASH_LENGTH = 32;
+  private static final int HEADER_LENGTH = Integer.BYTES * 2 + HASH_LENGTH;
+
+  private static final TypeReference<List<MappingFileContents>> CONTENTS_TYPE =
+      new TypeReference<>() {};
+
+  record MappingFileContents(String path, boolean multi, List<StubMapping> mappings) {}
+
+  private final Path snapshotFile;
+
+  MappingsSnapshot(Path snapshotFile) {
+    this.snapshotFile = snapshotFile;
+  }
+
+  Optional<List<MappingFileContents>> read(byte[] fingerprint) {
+    if (!Files.isRegularFile(snapshotFile)) {
+      return Optional.empty();
+    }
+
+    try (FileChannel channel = FileChannel.open(snapshotFile)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (!hasValidHeader(buffer, fingerprint)) {
+        return Optional.empty();
+      }
+
+      return Optional.of(
+          Json.getObjectMapper().readValue(new ByteBufferBackedInputStream(buffer), CONTENTS_TYPE));
+    } catch (JsonProcessingException e) {
+      notifier().error("Ignoring unreadable mappings snapshot " + snapshotFile, e);
+      return Optional.empty();
+    } catch (IOException e) {
+      notifier().error("Failed to read mappings snapshot " + snapshotFile, e);
+      return Optional.empty();
+    }
+  }
+
+  void write(byte[] fingerprint, List<MappingFileContents> contents) {
+    try {
+      Path tempFile = Files.createTempFile(snapshotFile.getParent(), FILE_NAME, ".tmp");
+      try {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+          DataOutputStream header = new DataOutputStream(out);
+          header.writeInt(MAGIC);
+          header.writeInt(FORMAT_VERSION);
+          header.write(fingerprint);
+          Json.writeTo(out, contents, Json.PrivateView.class, false);
+        }
+        Files.move(tempFile, snapshotFile, REPLACE_EXISTING, ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (IOException e) {
+      notifier().error("Failed to write mappings snapshot " + snapshotFile, e);
+    }
+  }
+
+  private static boolean hasValidHeader(ByteBuffer buffer, byte[] expectedFingerprint) {
+    if (buffer.remaining() < HEADER_LENGTH
+        || buffer.getInt() != MAGIC
+        || buffer.getInt() != FORMAT_VERSION) {
+      return false;
+    }
+
+    byte[] fingerprint = new byte[HASH_LENGTH];
+    buffer.get(fingerprint);
+    return Arrays.equals(fingerprint, expectedFingerprint);
+  }
+
+  static byte[] fingerprint(List<TextFile> mappingFiles) throws IOException {
+    MessageDigest digest = sha256();
+    digest.update(Version.getCurrentVersion().getBytes(UTF_8));
+    ByteBuffer sizeAndTime = ByteBuffer.allocate(Long.BYTES * 2 + Integer.BYTES);
+    for (TextFile mappingFile : mappingFiles) {
+      BasicFileAttributes attributes =
+          Files.readAttributes(Path.of(mappingFile.getPath()), BasicFileAttributes.class);
+      digest.update(mappingFile.getPath().getBytes(UTF_8));
+      sizeAndTime.clear();
+      Instant lastModified = attributes.lastModifiedTime().toInstant();
+      sizeAndTime
+          .putLong(attributes.size())
+          .putLong(lastModified.getEpochSecond())
+          .putInt(lastModified.getNano());
+      digest.update(sizeAndTime.array());
+    }
+    return digest.digest();
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
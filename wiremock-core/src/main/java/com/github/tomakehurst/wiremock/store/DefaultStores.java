@@ -15,9 +15,14 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import static com.github.tomakehurst.wiremock.common.Lazy.lazy;
+import static com.github.tomakehurst.wiremock.core.WireMockApp.FILES_ROOT;
 import static com.github.tomakehurst.wiremock.store.Stores.PersistenceType.EPHEMERAL;
 
 import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.Lazy;
+import com.github.tomakehurst.wiremock.store.files.BodyFileCacheSettings;
+import com.github.tomakehurst.wiremock.store.files.CachingFileSourceBlobStore;
 import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
 import com.github.tomakehurst.wiremock.store.files.FileSourceJsonObjectStore;
 import java.util.Map;
@@ -37,10 +42,15 @@ public class DefaultStores implements Stores {
   private final MessageStubMappingStore messageStubMappingStore;
   private final MessageJournalStore messageJournalStore;
   private final ChannelProviderStore channelProviderStore;
+  private final Lazy<BlobStore> filesBlobStore;
 
   private final Map<String, ObjectStore> objectStores;
 
   public DefaultStores(FileSource fileRoot) {
+    this(fileRoot, BodyFileCacheSettings.DEFAULTS);
+  }
+
+  public DefaultStores(FileSource fileRoot, BodyFileCacheSettings bodyFileCacheSettings) {
     this.fileRoot = fileRoot;
 
     this.stubMappingStore = new InMemoryStubMappingStore();
@@ -51,6 +61,10 @@ public class DefaultStores implements Stores {
     this.messageStubMappingStore = new InMemoryMessageStubMappingStore();
     this.messageJournalStore = new InMemoryMessageJournalStore();
     this.channelProviderStore = new InMemoryChannelProviderStore();
+    this.filesBlobStore =
+        lazy(
+            () ->
+                new CachingFileSourceBlobStore(fileRoot.child(FILES_ROOT), bodyFileCacheSettings));
 
     objectStores = new ConcurrentHashMap<>();
   }
@@ -102,6 +116,10 @@ public class DefaultStores implements Stores {
 
   @Override
   public BlobStore getBlobStore(String name) {
+    if (FILES_ROOT.equals(name)) {
+      return filesBlobStore.get();
+    }
+
     final FileSource child = fileRoot.child(name);
     return new FileSourceBlobStore(child);
   }
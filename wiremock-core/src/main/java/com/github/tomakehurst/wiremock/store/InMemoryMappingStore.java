@@ -29,7 +29,7 @@ public abstract class InMemoryMappingStore<T extends Prioritisable> {
       new SortedConcurrentPrioritisableSet<>();
 
   public Optional<T> get(UUID id) {
-    return mappings.stream().filter(mapping -> mapping.getId().equals(id)).findFirst();
+    return mappings.get(id);
   }
 
   public void remove(UUID id) {
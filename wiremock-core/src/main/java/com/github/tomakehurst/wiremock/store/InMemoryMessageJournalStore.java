@@ -20,6 +20,9 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
@@ -32,14 +35,26 @@ import org.wiremock.annotations.Beta;
 public class InMemoryMessageJournalStore implements MessageJournalStore {
 
   private final Deque<UUID> deque = new ConcurrentLinkedDeque<>();
+  // Tracks the deque's length, which ConcurrentLinkedDeque can only compute by traversal
+  private final AtomicInteger size = new AtomicInteger();
+  // Taken shared when the deque and its count change together, and exclusively by clear(), so that
+  // a clear can't land between the two and leave the count out of step with the deque
+  private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
   private final Map<UUID, MessageServeEvent> events = new ConcurrentHashMap<>();
   private final List<Consumer<? super StoreEvent<UUID, MessageServeEvent>>> eventListeners =
       new CopyOnWriteArrayList<>();
 
   @Override
   public void add(MessageServeEvent event) {
-    MessageServeEvent previous = events.put(event.getId(), event);
-    deque.addFirst(event.getId());
+    final MessageServeEvent previous;
+    clearLock.readLock().lock();
+    try {
+      previous = events.put(event.getId(), event);
+      deque.addFirst(event.getId());
+      size.incrementAndGet();
+    } finally {
+      clearLock.readLock().unlock();
+    }
     notifyListeners(new StoreEvent<>(event.getId(), previous, event));
   }
 
@@ -49,14 +64,30 @@ public class InMemoryMessageJournalStore implements MessageJournalStore {
   }
 
   @Override
-  public void removeLast() {
-    final UUID id = deque.pollLast();
-    if (id != null) {
-      MessageServeEvent removed = events.remove(id);
-      if (removed != null) {
-        notifyListeners(new StoreEvent<>(id, removed, null));
+  public boolean removeLast() {
+    final UUID id;
+    final MessageServeEvent removed;
+    clearLock.readLock().lock();
+    try {
+      id = deque.pollLast();
+      if (id == null) {
+        return false;
       }
+      size.decrementAndGet();
+      removed = events.remove(id);
+    } finally {
+      clearLock.readLock().unlock();
+    }
+
+    if (removed != null) {
+      notifyListeners(new StoreEvent<>(id, removed, null));
     }
+    return true;
+  }
+
+  @Override
+  public long size() {
+    return size.get();
   }
 
   @Override
@@ -78,10 +109,17 @@ public class InMemoryMessageJournalStore implements MessageJournalStore {
   }
 
   @Override
-  @SuppressWarnings("ModifySourceCollectionInStream")
   public void remove(UUID id) {
-    deque.stream().filter(eventId -> eventId.equals(id)).forEach(deque::remove);
-    MessageServeEvent removed = events.remove(id);
+    final MessageServeEvent removed;
+    clearLock.readLock().lock();
+    try {
+      while (deque.removeFirstOccurrence(id)) {
+        size.decrementAndGet();
+      }
+      removed = events.remove(id);
+    } finally {
+      clearLock.readLock().unlock();
+    }
     if (removed != null) {
       notifyListeners(new StoreEvent<>(id, removed, null));
     }
@@ -89,8 +127,14 @@ public class InMemoryMessageJournalStore implements MessageJournalStore {
 
   @Override
   public void clear() {
-    deque.clear();
-    events.clear();
+    clearLock.writeLock().lock();
+    try {
+      deque.clear();
+      size.set(0);
+      events.clear();
+    } finally {
+      clearLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -19,61 +19,272 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
+/**
+ * Keeps serve events newest first in a deque of slots, with an ID index pointing at the entry each
+ * slot belongs to. Removing an event by ID just drops its entry from the index, which tombstones
+ * every slot referring to it in constant time. Tombstoned slots are skipped when iterating,
+ * discarded when they reach the tail during eviction, and swept out in bulk once they outnumber the
+ * live ones, so no operation needs to walk the deque on the request path.
+ *
+ * <p>Unmatched slots and per-stub hit counts are indexed as events are added, replaced and removed,
+ * so the admin queries for them cost the size of their result rather than of the journal.
+ */
 @Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
 public class InMemoryRequestJournalStore implements RequestJournalStore {
 
-  private final Deque<UUID> deque = new ConcurrentLinkedDeque<>();
-  private final Map<UUID, ServeEvent> serveEvents = new ConcurrentHashMap<>();
+  private final Deque<Slot> slots = new ConcurrentLinkedDeque<>();
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicInteger tombstones = new AtomicInteger();
+  private final AtomicBoolean compacting = new AtomicBoolean();
+  private final AtomicLong sequence = new AtomicLong();
+  private final Set<Slot> unmatched =
+      new ConcurrentSkipListSet<>(Comparator.comparingLong(Slot::sequence).reversed());
+  private final Map<UUID, Long> stubHitCounts = new ConcurrentHashMap<>();
+  // Taken shared by everything that updates the counts and indexes, and exclusively by clear(), so
+  // that a clear can't land half way through an update and leave the counts out of step
+  private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
 
   @Override
   public void add(ServeEvent event) {
-    serveEvents.put(event.getId(), event);
-    deque.addFirst(event.getId());
+    clearLock.readLock().lock();
+    try {
+      final Slot[] added = {null};
+      entries.compute(
+          event.getId(),
+          (id, existing) -> {
+            final Entry entry = existing != null ? existing : new Entry();
+            replaceEvent(entry, event);
+            final Slot slot = new Slot(id, entry, sequence.incrementAndGet());
+            entry.slots.add(slot);
+            index(slot);
+            added[0] = slot;
+            return entry;
+          });
+      size.incrementAndGet();
+
+      // A new entry only becomes visible in the index once compute has returned, so the slot isn't
+      // published until then, otherwise compaction could mistake it for a tombstone and drop it
+      slots.addFirst(added[0]);
+    } finally {
+      clearLock.readLock().unlock();
+    }
   }
 
   @Override
   public Stream<ServeEvent> getAll() {
-    return deque.stream().map(serveEvents::get).filter(Objects::nonNull);
+    return slots.stream().filter(this::isLive).map(slot -> slot.entry.event);
   }
 
   @Override
-  public void removeLast() {
-    final UUID id = deque.pollLast();
-    if (id != null) {
-      serveEvents.remove(id);
+  public boolean removeLast() {
+    clearLock.readLock().lock();
+    try {
+      Slot slot;
+      while ((slot = slots.pollLast()) != null) {
+        if (!slot.discard()) {
+          // Compaction has already swept it out and counted it
+          continue;
+        }
+
+        if (release(slot)) {
+          return true;
+        }
+
+        tombstones.decrementAndGet();
+      }
+      return false;
+    } finally {
+      clearLock.readLock().unlock();
     }
   }
 
+  @Override
+  public Stream<ServeEvent> getAllUnmatched() {
+    return unmatched.stream().filter(this::isLive).map(slot -> slot.entry.event);
+  }
+
+  @Override
+  public Map<UUID, Long> getStubHitCounts() {
+    return Map.copyOf(stubHitCounts);
+  }
+
+  @Override
+  public long size() {
+    return size.get();
+  }
+
   @Override
   public Stream<UUID> getAllKeys() {
-    return getAll().map(ServeEvent::getId);
+    return slots.stream().filter(this::isLive).map(slot -> slot.id);
   }
 
   @Override
   public Optional<ServeEvent> get(UUID id) {
-    return Optional.ofNullable(serveEvents.get(id));
+    return Optional.ofNullable(entries.get(id)).map(entry -> entry.event);
   }
 
   @Override
   public void put(UUID id, ServeEvent event) {
-    if (deque.contains(id)) {
-      serveEvents.put(id, event);
+    clearLock.readLock().lock();
+    try {
+      entries.computeIfPresent(
+          id,
+          (key, entry) -> {
+            replaceEvent(entry, event);
+            return entry;
+          });
+    } finally {
+      clearLock.readLock().unlock();
     }
   }
 
   @Override
-  @SuppressWarnings("ModifySourceCollectionInStream")
   public void remove(UUID id) {
-    deque.stream().filter(eventId -> eventId.equals(id)).forEach(deque::remove);
-    serveEvents.remove(id);
+    clearLock.readLock().lock();
+    try {
+      final int[] removedSlots = {0};
+      entries.computeIfPresent(
+          id,
+          (key, entry) -> {
+            entry.slots.forEach(this::unindex);
+            removedSlots[0] = entry.slots.size();
+            return null;
+          });
+
+      if (removedSlots[0] > 0) {
+        size.addAndGet(-removedSlots[0]);
+        tombstones.addAndGet(removedSlots[0]);
+        compactIfMostlyTombstones();
+      }
+    } finally {
+      clearLock.readLock().unlock();
+    }
   }
 
   @Override
   public void clear() {
-    deque.clear();
-    serveEvents.clear();
+    clearLock.writeLock().lock();
+    try {
+      slots.clear();
+      entries.clear();
+      unmatched.clear();
+      stubHitCounts.clear();
+      size.set(0);
+      tombstones.set(0);
+    } finally {
+      clearLock.writeLock().unlock();
+    }
+  }
+
+  private boolean isLive(Slot slot) {
+    return entries.get(slot.id) == slot.entry;
+  }
+
+  private boolean release(Slot slot) {
+    final boolean[] released = {false};
+    entries.computeIfPresent(
+        slot.id,
+        (id, entry) -> {
+          if (entry != slot.entry) {
+            return entry;
+          }
+
+          released[0] = true;
+          unindex(slot);
+          entry.slots.remove(slot);
+          return entry.slots.isEmpty() ? null : entry;
+        });
+
+    if (released[0]) {
+      size.decrementAndGet();
+    }
+    return released[0];
+  }
+
+  private void replaceEvent(Entry entry, ServeEvent event) {
+    entry.slots.forEach(this::unindex);
+    entry.event = event;
+    entry.slots.forEach(this::index);
+  }
+
+  private void index(Slot slot) {
+    final ServeEvent event = slot.entry.event;
+    if (event.isNoExactMatch()) {
+      unmatched.add(slot);
+    }
+    if (event.getStubMapping() != null) {
+      stubHitCounts.merge(event.getStubMapping().getId(), 1L, Long::sum);
+    }
+  }
+
+  private void unindex(Slot slot) {
+    final ServeEvent event = slot.entry.event;
+    if (event == null) {
+      return;
+    }
+
+    unmatched.remove(slot);
+    if (event.getStubMapping() != null) {
+      stubHitCounts.computeIfPresent(
+          event.getStubMapping().getId(), (id, count) -> count == 1 ? null : count - 1);
+    }
+  }
+
+  private void compactIfMostlyTombstones() {
+    if (tombstones.get() <= size.get() || !compacting.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      for (Iterator<Slot> iterator = slots.iterator(); iterator.hasNext(); ) {
+        final Slot slot = iterator.next();
+        if (!isLive(slot) && slot.discard()) {
+          iterator.remove();
+          tombstones.decrementAndGet();
+        }
+      }
+    } finally {
+      compacting.set(false);
+    }
+  }
+
+  private static final class Slot {
+    final UUID id;
+    final Entry entry;
+    final long sequence;
+
+    // Eviction and compaction can both take a slot out of the deque, so whichever claims it here
+    // is the one that accounts for it
+    private final AtomicBoolean discarded = new AtomicBoolean();
+
+    Slot(UUID id, Entry entry, long sequence) {
+      this.id = id;
+      this.entry = entry;
+      this.sequence = sequence;
+    }
+
+    long sequence() {
+      return sequence;
+    }
+
+    boolean discard() {
+      return discarded.compareAndSet(false, true);
+    }
+  }
+
+  // Only mutated inside a compute on its ID, so updates are serialised per event
+  private static final class Entry {
+    volatile ServeEvent event;
+    final List<Slot> slots = new ArrayList<>(1);
   }
 }
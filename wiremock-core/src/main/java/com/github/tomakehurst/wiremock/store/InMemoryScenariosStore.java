@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package com.github.tomakehurst.wiremock.store;
 import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
@@ -26,6 +28,10 @@ public class InMemoryScenariosStore implements ScenariosStore {
 
   private final ConcurrentHashMap<String, Scenario> scenarioMap = new ConcurrentHashMap<>();
 
+  // Only ever incremented after the change it records has been made, so that a snapshot taken at
+  // a given version can never miss a change made before that version was reached
+  private final AtomicLong version = new AtomicLong();
+
   @Override
   public Stream<String> getAllKeys() {
     return scenarioMap.keySet().stream();
@@ -36,6 +42,11 @@ public class InMemoryScenariosStore implements ScenariosStore {
     return scenarioMap.values().stream();
   }
 
+  @Override
+  public long getVersion() {
+    return version.get();
+  }
+
   @Override
   public Optional<Scenario> get(String key) {
     return Optional.ofNullable(scenarioMap.get(key));
@@ -44,15 +55,37 @@ public class InMemoryScenariosStore implements ScenariosStore {
   @Override
   public void put(String key, Scenario content) {
     scenarioMap.put(key, content);
+    version.incrementAndGet();
+  }
+
+  @Override
+  public Scenario compute(String key, UnaryOperator<Scenario> remappingFunction) {
+    final boolean[] changed = {false};
+    final Scenario updated =
+        scenarioMap.compute(
+            key,
+            (name, scenario) -> {
+              final Scenario result = remappingFunction.apply(scenario);
+              changed[0] = result != scenario;
+              return result;
+            });
+
+    if (changed[0]) {
+      version.incrementAndGet();
+    }
+    return updated;
   }
 
   @Override
   public void remove(String key) {
-    scenarioMap.remove(key);
+    if (scenarioMap.remove(key) != null) {
+      version.incrementAndGet();
+    }
   }
 
   @Override
   public void clear() {
     scenarioMap.clear();
+    version.incrementAndGet();
   }
 }
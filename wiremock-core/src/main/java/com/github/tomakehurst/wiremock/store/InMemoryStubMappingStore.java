@@ -15,9 +15,45 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.UUID;
+import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
 @Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
 public class InMemoryStubMappingStore extends InMemoryMappingStore<StubMapping>
-    implements StubMappingStore {}
+    implements StubMappingStore {
+
+  private final StubMappingRequestIndex index = new StubMappingRequestIndex();
+
+  @Override
+  public Stream<StubMapping> findCandidatesFor(Request request) {
+    return index.findCandidatesFor(request);
+  }
+
+  @Override
+  public StubMapping add(StubMapping mapping) {
+    final StubMapping added = super.add(mapping);
+    index.add(added);
+    return added;
+  }
+
+  @Override
+  public StubMapping replace(StubMapping existing, StubMapping updated) {
+    index.replace(existing, updated);
+    return super.replace(existing, updated);
+  }
+
+  @Override
+  public void remove(UUID id) {
+    get(id).ifPresent(index::remove);
+    super.remove(id);
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    index.clear();
+  }
+}
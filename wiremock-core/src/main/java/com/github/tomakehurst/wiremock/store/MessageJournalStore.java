@@ -28,7 +28,16 @@ public interface MessageJournalStore extends Store<UUID, MessageServeEvent> {
 
   void add(MessageServeEvent event);
 
-  void removeLast();
+  /** Removes the oldest event, returning false if there was none to remove. */
+  boolean removeLast();
+
+  /**
+   * The number of events currently held. Called on every journalled event when the journal size is
+   * capped, so implementations should override this with a constant-time count.
+   */
+  default long size() {
+    return getAllKeys().count();
+  }
 
   void registerEventListener(Consumer<? super StoreEvent<UUID, MessageServeEvent>> listener);
 
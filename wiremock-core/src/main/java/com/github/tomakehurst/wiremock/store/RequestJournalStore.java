@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,11 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
@@ -27,5 +31,33 @@ public interface RequestJournalStore extends Store<UUID, ServeEvent> {
 
   void add(ServeEvent event);
 
-  void removeLast();
+  /** Removes the oldest event, returning false if there was none to remove. */
+  boolean removeLast();
+
+  /**
+   * The number of events currently held. Called on every journalled event when the journal size is
+   * capped, so implementations should override this with a constant-time count.
+   */
+  default long size() {
+    return getAllKeys().count();
+  }
+
+  /**
+   * The events that were not matched by any stub, newest first. Polled by the admin API, so
+   * implementations holding large journals should override this with an index.
+   */
+  default Stream<ServeEvent> getAllUnmatched() {
+    return getAll().filter(ServeEvent::isNoExactMatch);
+  }
+
+  /**
+   * The number of events held for each stub mapping that served at least one, keyed by stub ID.
+   * Polled by the admin API, so implementations holding large journals should override this with an
+   * index.
+   */
+  default Map<UUID, Long> getStubHitCounts() {
+    return getAll()
+        .filter(event -> event.getStubMapping() != null)
+        .collect(groupingBy(event -> event.getStubMapping().getId(), counting()));
+  }
 }
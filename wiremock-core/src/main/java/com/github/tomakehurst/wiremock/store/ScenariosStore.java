@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package com.github.tomakehurst.wiremock.store;
 
 import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
@@ -23,4 +24,30 @@ import org.wiremock.annotations.Beta;
 public interface ScenariosStore extends Store<String, Scenario> {
 
   Stream<Scenario> getAll();
+
+  /**
+   * A number that changes every time any scenario in the store changes, so that a snapshot of all
+   * scenarios can be reused for as long as it stays the same. Stores that can't track this, for
+   * instance because they're shared with other instances, return -1 so that a fresh snapshot is
+   * taken every time.
+   */
+  default long getVersion() {
+    return -1;
+  }
+
+  /**
+   * Replaces the scenario held under the key with the result of applying the function to it (null
+   * if there is none), removing it if the result is null, and returns the result. Scenario state
+   * transitions are made through this, so implementations that can be accessed concurrently should
+   * override it to apply the function atomically; this default is a plain get followed by a put.
+   */
+  default Scenario compute(String key, UnaryOperator<Scenario> remappingFunction) {
+    final Scenario updated = remappingFunction.apply(get(key).orElse(null));
+    if (updated == null) {
+      remove(key);
+    } else {
+      put(key, updated);
+    }
+    return updated;
+  }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.common.SortedConcurrentPrioritisableSet.sortedByPriorityThenReverseInsertionOrder;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.MultiRequestMethodPattern;
+import com.github.tomakehurst.wiremock.matching.PathTemplatePattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathTemplatePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import org.wiremock.url.PathAndQuery;
+
+/**
+ * Buckets stub mappings by the cheapest request attribute that rules out a match, so that a request
+ * only needs to be evaluated against the stubs that could possibly match it.
+ *
+ * <p>Each stub is placed in exactly one bucket, chosen in order of selectivity: exact URL, exact
+ * path, the first literal segment of a path template, a single HTTP method, or, failing all of
+ * those, the catch-all bucket. Every bucket is kept in the same priority then reverse insertion
+ * order as the main mapping set, so merging the buckets a request touches reproduces exactly the
+ * order a full scan would have produced.
+ */
+class StubMappingRequestIndex {
+
+  private final ConcurrentHashMap<Key, ConcurrentSkipListSet<StubMapping>> buckets =
+      new ConcurrentHashMap<>();
+
+  void add(StubMapping stubMapping) {
+    buckets
+        .computeIfAbsent(
+            keyFor(stubMapping),
+            k -> new ConcurrentSkipListSet<>(sortedByPriorityThenReverseInsertionOrder()))
+        .add(stubMapping);
+  }
+
+  void remove(StubMapping stubMapping) {
+    ConcurrentSkipListSet<StubMapping> bucket = buckets.get(keyFor(stubMapping));
+    if (bucket != null) {
+      bucket.remove(stubMapping);
+    }
+  }
+
+  void replace(StubMapping existing, StubMapping updated) {
+    ConcurrentSkipListSet<StubMapping> bucket = buckets.get(keyFor(existing));
+    if (bucket != null && bucket.remove(existing)) {
+      add(updated);
+    }
+  }
+
+  void clear() {
+    buckets.clear();
+  }
+
+  Stream<StubMapping> findCandidatesFor(Request request) {
+    final PathAndQuery pathAndQuery = request.getPathAndQueryWithoutPrefix();
+    final String path = pathAndQuery.getPath().toString();
+
+    List<Iterator<StubMapping>> candidates = new ArrayList<>(5);
+    addBucket(candidates, new Key(Kind.URL, pathAndQuery.toString()));
+    addBucket(candidates, new Key(Kind.PATH, path));
+    addBucket(candidates, new Key(Kind.PATH_TEMPLATE_PREFIX, firstSegmentOf(path)));
+    addBucket(candidates, new Key(Kind.METHOD, request.getMethod().getName()));
+    addBucket(candidates, Key.UNINDEXED);
+
+    if (candidates.size() == 1) {
+      return Streams.stream(candidates.get(0));
+    }
+
+    return Streams.stream(
+        Iterators.mergeSorted(candidates, sortedByPriorityThenReverseInsertionOrder()));
+  }
+
+  private void addBucket(List<Iterator<StubMapping>> candidates, Key key) {
+    ConcurrentSkipListSet<StubMapping> bucket = buckets.get(key);
+    if (bucket != null && !bucket.isEmpty()) {
+      candidates.add(bucket.iterator());
+    }
+  }
+
+  private static Key keyFor(StubMapping stubMapping) {
+    final RequestPattern requestPattern = stubMapping.getRequest();
+    final UrlPattern url = requestPattern.getUrlMatcher();
+
+    if (url.getClass() == UrlPattern.class && isCaseSensitiveEqualTo(url)) {
+      return new Key(Kind.URL, url.getPattern().getValue());
+    }
+
+    if (url.getClass() == UrlPathPattern.class && isCaseSensitiveEqualTo(url)) {
+      return new Key(Kind.PATH, url.getPattern().getValue());
+    }
+
+    if (url.getClass() == UrlPathTemplatePattern.class) {
+      final String prefix = literalFirstSegmentOf((PathTemplatePattern) url.getPattern());
+      if (prefix != null) {
+        return new Key(Kind.PATH_TEMPLATE_PREFIX, prefix);
+      }
+    }
+
+    final RequestMethod method = requestPattern.getMethod();
+    if (!RequestMethod.ANY.equals(method) && !(method instanceof MultiRequestMethodPattern)) {
+      return new Key(Kind.METHOD, method.getName());
+    }
+
+    return Key.UNINDEXED;
+  }
+
+  private static boolean isCaseSensitiveEqualTo(UrlPattern url) {
+    return url.getPattern().getClass() == EqualToPattern.class
+        && !Boolean.TRUE.equals(((EqualToPattern) url.getPattern()).getCaseInsensitive());
+  }
+
+  /**
+   * Returns the first path segment of the template (including its leading slash), provided it is
+   * entirely literal, otherwise null. A path template is matched by an anchored regex whose leading
+   * static text is quoted, so any path it matches must share this first segment.
+   */
+  private static String literalFirstSegmentOf(PathTemplatePattern pattern) {
+    final String template = pattern.getMatchesPathTemplate();
+    if (!template.startsWith("/")) {
+      return null;
+    }
+
+    final String firstSegment = firstSegmentOf(template);
+    return !firstSegment.contains("{") && !firstSegment.contains("**") ? firstSegment : null;
+  }
+
+  private static String firstSegmentOf(String path) {
+    final int secondSlash = path.indexOf('/', 1);
+    return secondSlash == -1 ? path : path.substring(0, secondSlash);
+  }
+
+  private enum Kind {
+    URL,
+    PATH,
+    PATH_TEMPLATE_PREFIX,
+    METHOD,
+    UNINDEXED
+  }
+
+  private record Key(Kind kind, String value) {
+    static final Key UNINDEXED = new Key(Kind.UNINDEXED, "");
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2022-2025 Thomas Akehurst
+ * Copyright (C) 2022-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,6 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
-import com.github.tomakehurst.wiremock.common.Pair;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
@@ -32,17 +31,22 @@ public interface StubMappingStore {
 
   Optional<StubMapping> get(UUID id);
 
+  /**
+   * Returns, in priority order, the stubs that could possibly match the request. Implementations
+   * that index their stubs can use this to avoid evaluating the full set for every request.
+   */
+  default Stream<StubMapping> findCandidatesFor(Request request) {
+    return getAll();
+  }
+
   default Stream<StubMapping> findAllMatchingRequest(
       Request request,
       Map<String, RequestMatcherExtension> customMatchers,
       Consumer<SubEvent> subEventConsumer) {
-    return getAll()
-        .map(
+    return findCandidatesFor(request)
+        .filter(
             stubMapping ->
-                Pair.pair(stubMapping, stubMapping.getRequest().match(request, customMatchers)))
-        .peek(stubAndMatchResult -> stubAndMatchResult.b.getSubEvents().forEach(subEventConsumer))
-        .filter(stubAndMatchResult -> stubAndMatchResult.b.isExactMatch())
-        .map(stubAndMatchResult -> stubAndMatchResult.a);
+                stubMapping.getRequest().isMatchedBy(request, customMatchers, subEventConsumer));
   }
 
   StubMapping add(StubMapping stub);
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+/**
+ * Controls how much of the files blob store's content is kept in memory between requests. By
+ * default cached files are copied onto the heap. Setting a memory map threshold memory-maps files
+ * larger than it instead. Both count towards the maximum size, and files that would exceed it on
+ * their own are always read from disk.
+ *
+ * <p>Memory mapping is off by default because a mapped file is only safe while it is left alone:
+ * truncating one on disk while it is mapped can crash the JVM, and on Windows a mapped file can't be
+ * edited or deleted until the mapping is garbage collected.
+ */
+public class BodyFileCacheSettings {
+
+  public static final long DEFAULT_MAX_SIZE = 50L * 1024 * 1024;
+  public static final long DEFAULT_MEMORY_MAP_THRESHOLD = 0;
+
+  public static final BodyFileCacheSettings DISABLED = new BodyFileCacheSettings(0, 0);
+  public static final BodyFileCacheSettings DEFAULTS =
+      new BodyFileCacheSettings(DEFAULT_MAX_SIZE, DEFAULT_MEMORY_MAP_THRESHOLD);
+
+  private final long maxSize;
+  private final long memoryMapThreshold;
+
+  public BodyFileCacheSettings(long maxSize, long memoryMapThreshold) {
+    this.maxSize = maxSize;
+    this.memoryMapThreshold = memoryMapThreshold;
+  }
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public long getMemoryMapThreshold() {
+    return memoryMapThreshold;
+  }
+
+  public boolean isMemoryMapping() {
+    return memoryMapThreshold > 0;
+  }
+
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+}
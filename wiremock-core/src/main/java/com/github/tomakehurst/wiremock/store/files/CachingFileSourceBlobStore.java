@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store.files;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import org.wiremock.annotations.Beta;
+
+/**
+ * A {@link FileSourceBlobStore} that keeps the content of recently served files in memory, so that
+ * serving one again costs a single stat of the file rather than opening and reading it. An entry is
+ * reloaded whenever the file's size or modification time has changed on disk, and dropped when the
+ * file is written or deleted through this store. File sources that aren't backed by the local
+ * filesystem, such as a classpath jar, are read through uncached.
+ */
+@Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
+public class CachingFileSourceBlobStore extends FileSourceBlobStore {
+
+  private final BodyFileCacheSettings settings;
+  private final boolean cacheable;
+  private final Cache<String, CachedFile> cache;
+
+  public CachingFileSourceBlobStore(FileSource fileSource, BodyFileCacheSettings settings) {
+    super(fileSource);
+    this.settings = settings;
+    this.cacheable = settings.isEnabled() && isOnLocalFilesystem(fileSource);
+    this.cache =
+        CacheBuilder.newBuilder()
+            // Guava divides the weight between segments, so with more than one a file could pass
+            // the size check below yet still be too large for its segment and be evicted at once
+            .concurrencyLevel(1)
+            .maximumWeight(settings.getMaxSize())
+            .weigher((String key, CachedFile file) -> (int) file.size)
+            .build();
+  }
+
+  private static boolean isOnLocalFilesystem(FileSource fileSource) {
+    final URI uri = fileSource.getUri();
+    return uri != null && "file".equals(uri.getScheme());
+  }
+
+  @Override
+  public Optional<InputStream> getStream(String key) {
+    if (!cacheable) {
+      return super.getStream(key);
+    }
+
+    final CachedFile file = getCachedFile(key);
+    return file != null ? Optional.of(file.getStream()) : super.getStream(key);
+  }
+
+  @Override
+  public Optional<byte[]> get(String key) {
+    if (!cacheable) {
+      return super.get(key);
+    }
+
+    final CachedFile file = getCachedFile(key);
+    return file != null ? Optional.of(file.copyContents()) : super.get(key);
+  }
+
+  @Override
+  public void put(String key, byte[] content) {
+    cache.invalidate(key);
+    super.put(key, content);
+  }
+
+  @Override
+  public void remove(String key) {
+    cache.invalidate(key);
+    super.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+    super.clear();
+  }
+
+  /**
+   * Returns the cached file for the key, (re)loading it if it has changed on disk, or null if it
+   * should be read through uncached. That covers files that are missing, inaccessible or too large
+   * to cache, and leaves reporting any errors to the uncached path.
+   */
+  private CachedFile getCachedFile(String key) {
+    final CachedFile cached = cache.getIfPresent(key);
+    try {
+      final Path path = cached != null ? cached.path : pathOf(key);
+      final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      if (cached != null && cached.isCurrent(attributes)) {
+        return cached;
+      }
+
+      final long size = attributes.size();
+      if (!attributes.isRegularFile() || size > settings.getMaxSize() || size > Integer.MAX_VALUE) {
+        cache.invalidate(key);
+        return null;
+      }
+
+      final CachedFile loaded = load(path, attributes);
+      cache.put(key, loaded);
+      return loaded;
+    } catch (IOException | RuntimeException e) {
+      cache.invalidate(key);
+      return null;
+    }
+  }
+
+  private Path pathOf(String key) {
+    // Resolving via the file source applies its checks that the key stays under the root
+    return Path.of(URI.create(getFileSource().getBinaryFileNamed(key).name()));
+  }
+
+  private CachedFile load(Path path, BasicFileAttributes attributes) throws IOException {
+    if (settings.isMemoryMapping() && attributes.size() > settings.getMemoryMapThreshold()) {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        return new CachedFile(
+            path,
+            attributes,
+            null,
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, attributes.size()));
+      }
+    }
+
+    return new CachedFile(path, attributes, Files.readAllBytes(path), null);
+  }
+
+  private static class CachedFile {
+
+    final Path path;
+    final FileTime lastModified;
+    final long size;
+    final byte[] heapContents;
+    final ByteBuffer mappedContents;
+
+    CachedFile(
+        Path path, BasicFileAttributes attributes, byte[] heapContents, ByteBuffer mappedContents) {
+      this.path = path;
+      this.lastModified = attributes.lastModifiedTime();
+      this.size = attributes.size();
+      this.heapContents = heapContents;
+      this.mappedContents = mappedContents;
+    }
+
+    boolean isCurrent(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModified.equals(attributes.lastModifiedTime());
+    }
+
+    InputStream getStream() {
+      return heapContents != null
+          ? new ByteArrayInputStream(heapContents)
+          : new ByteBufferInputStream(mappedContents.duplicate());
+    }
+
+    byte[] copyContents() {
+      if (heapContents != null) {
+        return heapContents.clone();
+      }
+
+      final byte[] contents = new byte[(int) size];
+      mappedContents.duplicate().get(contents);
+      return contents;
+    }
+  }
+
+  private static class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+
+      final int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -21,10 +21,12 @@ import static java.util.stream.Collectors.toList;
 import com.github.tomakehurst.wiremock.admin.NotFoundException;
 import com.github.tomakehurst.wiremock.store.ScenariosStore;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public abstract class AbstractScenarios implements Scenarios {
 
   private final ScenariosStore store;
+  private volatile ScenarioSnapshot latestSnapshot;
 
   public AbstractScenarios(ScenariosStore store) {
     this.store = store;
@@ -43,12 +45,7 @@ public abstract class AbstractScenarios implements Scenarios {
   @Override
   public void onStubMappingAdded(StubMapping mapping) {
     if (mapping.isInScenario()) {
-      String scenarioName = mapping.getScenarioName();
-      Scenario scenario =
-          getFirstNonNull(
-                  store.get(scenarioName).orElse(null), Scenario.inStartedState(scenarioName))
-              .withStubMapping(mapping);
-      store.put(scenarioName, scenario);
+      addToScenario(mapping);
     }
   }
 
@@ -56,64 +53,69 @@ public abstract class AbstractScenarios implements Scenarios {
   public void onStubMappingUpdated(StubMapping oldMapping, StubMapping newMapping) {
     if (oldMapping.isInScenario()
         && !oldMapping.getScenarioName().equals(newMapping.getScenarioName())) {
-      Scenario scenarioForOldMapping =
-          store
-              .get(oldMapping.getScenarioName())
-              .map(scenario -> scenario.withoutStubMapping(oldMapping))
-              .orElseThrow(IllegalStateException::new);
-
-      if (scenarioForOldMapping.getMappings().isEmpty()) {
-        store.remove(scenarioForOldMapping.getId());
-      } else {
-        store.put(oldMapping.getScenarioName(), scenarioForOldMapping);
-      }
+      removeFromScenario(oldMapping);
     }
 
     if (newMapping.isInScenario()) {
-      String scenarioName = newMapping.getScenarioName();
-      Scenario scenario =
-          getFirstNonNull(
-                  store.get(scenarioName).orElse(null), Scenario.inStartedState(scenarioName))
-              .withStubMapping(newMapping);
-      store.put(scenarioName, scenario);
+      addToScenario(newMapping);
     }
   }
 
   @Override
   public void onStubMappingRemoved(StubMapping mapping) {
     if (mapping.isInScenario()) {
-      final String scenarioName = mapping.getScenarioName();
-      Scenario scenario =
-          store
-              .get(scenarioName)
-              .orElseThrow(IllegalStateException::new)
-              .withoutStubMapping(mapping);
-
-      if (scenario.getMappings().isEmpty()) {
-        store.remove(scenarioName);
-      } else {
-        store.put(scenarioName, scenario);
-      }
+      removeFromScenario(mapping);
     }
   }
 
+  private void addToScenario(StubMapping mapping) {
+    final String scenarioName = mapping.getScenarioName();
+    store.compute(
+        scenarioName,
+        scenario ->
+            getFirstNonNull(scenario, Scenario.inStartedState(scenarioName))
+                .withStubMapping(mapping));
+  }
+
+  private void removeFromScenario(StubMapping mapping) {
+    store.compute(
+        mapping.getScenarioName(),
+        scenario -> {
+          if (scenario == null) {
+            throw new IllegalStateException();
+          }
+
+          final Scenario updated = scenario.withoutStubMapping(mapping);
+          return updated.getMappings().isEmpty() ? null : updated;
+        });
+  }
+
   @Override
   public void onStubServed(StubMapping mapping) {
-    if (mapping.isInScenario()) {
-      final String scenarioName = mapping.getScenarioName();
-      Scenario scenario = store.get(scenarioName).orElseThrow(IllegalStateException::new);
-      if (mapping.modifiesScenarioState()
-          && (mapping.getRequiredScenarioState() == null
-              || scenario.getState().equals(mapping.getRequiredScenarioState()))) {
-        Scenario newScenario = scenario.setState(mapping.getNewScenarioState());
-        store.put(scenarioName, newScenario);
-      }
+    if (mapping.isInScenario() && mapping.modifiesScenarioState()) {
+      // The required state is checked again inside the atomic update, so that of two requests
+      // that both matched in the same state only the first advances the scenario
+      store.compute(
+          mapping.getScenarioName(),
+          scenario -> {
+            if (scenario == null) {
+              throw new IllegalStateException();
+            }
+
+            return mapping.getRequiredScenarioState() == null
+                    || scenario.getState().equals(mapping.getRequiredScenarioState())
+                ? scenario.setState(mapping.getNewScenarioState())
+                : scenario;
+          });
     }
   }
 
   @Override
   public void reset() {
-    store.getAll().map(Scenario::reset).forEach(scenario -> store.put(scenario.getId(), scenario));
+    store
+        .getAllKeys()
+        .forEach(
+            name -> store.compute(name, scenario -> scenario == null ? null : scenario.reset()));
   }
 
   @Override
@@ -126,14 +128,16 @@ public abstract class AbstractScenarios implements Scenarios {
     setSingleScenarioState(name, scenario -> scenario.setState(state));
   }
 
-  private void setSingleScenarioState(
-      String name, java.util.function.Function<Scenario, Scenario> fn) {
-    Scenario scenario =
-        store
-            .get(name)
-            .orElseThrow(() -> new NotFoundException("Scenario " + name + " does not exist"));
+  private void setSingleScenarioState(String name, UnaryOperator<Scenario> fn) {
+    store.compute(
+        name,
+        scenario -> {
+          if (scenario == null) {
+            throw new NotFoundException("Scenario " + name + " does not exist");
+          }
 
-    store.put(name, fn.apply(scenario));
+          return fn.apply(scenario);
+        });
   }
 
   @Override
@@ -143,6 +147,20 @@ public abstract class AbstractScenarios implements Scenarios {
 
   @Override
   public ScenarioSnapshot snapshot() {
-    return new ScenarioSnapshot(store.getAll());
+    // Read the version before the scenarios, so that a change racing with this can at worst make
+    // the snapshot newer than its version, causing it to be retaken rather than wrongly reused
+    final long version = store.getVersion();
+    if (version < 0) {
+      return new ScenarioSnapshot(version, store.getAll());
+    }
+
+    final ScenarioSnapshot latest = latestSnapshot;
+    if (latest != null && latest.getVersion() == version) {
+      return latest;
+    }
+
+    final ScenarioSnapshot snapshot = new ScenarioSnapshot(version, store.getAll());
+    latestSnapshot = snapshot;
+    return snapshot;
   }
 }
@@ -15,8 +15,6 @@
  */
 package com.github.tomakehurst.wiremock.stubbing;
 
-import static java.util.stream.Collectors.toSet;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.tomakehurst.wiremock.common.Errors;
@@ -24,7 +22,6 @@ import com.github.tomakehurst.wiremock.common.InvalidInputException;
 import com.github.tomakehurst.wiremock.common.Json;
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.wiremock.annotations.PublishedAPI;
 
 @PublishedAPI
@@ -34,7 +31,7 @@ public class Scenario {
 
   private final String id;
   private final String state;
-  private final Set<StubMapping> stubMappings;
+  private final ScenarioMappings stubMappings;
 
   @JsonCreator
   public Scenario(
@@ -45,15 +42,22 @@ public class Scenario {
       @JsonProperty("mappings") Set<StubMapping> stubMappings) {
     this.id = id;
     this.state = currentState;
-    this.stubMappings = stubMappings;
+
+    ScenarioMappings mappings = ScenarioMappings.empty();
+    for (StubMapping stubMapping : stubMappings != null ? stubMappings : Set.<StubMapping>of()) {
+      mappings = mappings.with(stubMapping);
+    }
+    this.stubMappings = mappings;
   }
 
-  private Scenario(String id, String state, Set<StubMapping> stubMappings) {
-    this(id, null, state, null, stubMappings);
+  private Scenario(String id, String state, ScenarioMappings stubMappings) {
+    this.id = id;
+    this.state = state;
+    this.stubMappings = stubMappings;
   }
 
   public static Scenario inStartedState(String name) {
-    return new Scenario(name, STARTED, Collections.emptySet());
+    return new Scenario(name, STARTED, ScenarioMappings.empty());
   }
 
   public String getId() {
@@ -70,23 +74,15 @@ public class Scenario {
   }
 
   public Set<String> getPossibleStates() {
-    List<String> requiredStates =
-        stubMappings.stream()
-            .map(StubMapping::getRequiredScenarioState)
-            .collect(Collectors.toList());
-
-    requiredStates.addAll(
-        stubMappings.stream().map(StubMapping::getNewScenarioState).collect(Collectors.toList()));
-
-    return requiredStates.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+    return stubMappings.possibleStates();
   }
 
   public Set<StubMapping> getMappings() {
-    return stubMappings;
+    return new MappingsView();
   }
 
   Scenario setState(String newState) {
-    if (!getPossibleStates().contains(newState)) {
+    if (!stubMappings.possibleStates().contains(newState)) {
       throw new InvalidInputException(
           Errors.single(11, "Scenario " + id + " does not support state " + newState));
     }
@@ -98,19 +94,18 @@ public class Scenario {
     return new Scenario(id, STARTED, stubMappings);
   }
 
+  /**
+   * Adds the stub, replacing any earlier version of it in its original position. Both this and
+   * {@link #withoutStubMapping} share the earlier versions' mappings rather than copying them, so
+   * building up a scenario one stub at a time stays linear in the number of stubs.
+   */
   Scenario withStubMapping(StubMapping stubMapping) {
-    Set<StubMapping> newMappings = new LinkedHashSet<>(stubMappings);
-    newMappings.add(stubMapping);
-
-    return new Scenario(id, state, newMappings);
+    return new Scenario(id, state, stubMappings.with(stubMapping));
   }
 
   Scenario withoutStubMapping(StubMapping stubMapping) {
-    Set<StubMapping> newMappings =
-        stubMappings.stream()
-            .filter(stub -> !stub.getId().equals(stubMapping.getId()))
-            .collect(toSet());
-    return new Scenario(id, state, newMappings);
+    final ScenarioMappings remaining = stubMappings.without(stubMapping.getId());
+    return remaining == stubMappings ? this : new Scenario(id, state, remaining);
   }
 
   @Override
@@ -136,4 +131,23 @@ public class Scenario {
   public static Predicate<Scenario> withName(final String name) {
     return input -> input.getId().equals(name);
   }
+
+  private class MappingsView extends AbstractSet<StubMapping> {
+
+    @Override
+    public Iterator<StubMapping> iterator() {
+      return stubMappings.values().iterator();
+    }
+
+    @Override
+    public int size() {
+      return stubMappings.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return o instanceof StubMapping stubMapping
+          && stubMapping.equals(stubMappings.get(stubMapping.getId()));
+    }
+  }
 }
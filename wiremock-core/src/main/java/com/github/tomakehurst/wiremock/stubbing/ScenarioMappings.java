@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * The stub mappings in one version of a scenario, in the order they were first added. Versions
+ * derived from one another share an append-only log of the adds and removes that produced them, and
+ * each version is just a length into that log, so deriving a new version from the latest one is a
+ * single append rather than a copy. Deriving from an older version, which the scenarios store
+ * never does, starts a new log from that version's mappings, as does a log that has grown to twice
+ * the number of mappings it holds.
+ */
+final class ScenarioMappings {
+
+  private static final int MIN_COMPACTED_LENGTH = 8;
+
+  private final Log log;
+  private final int length;
+  private final int size;
+
+  // Both are worked out on first use and then shared by every scenario state using this version
+  private volatile Map<UUID, StubMapping> replayed;
+  private volatile Set<String> possibleStates;
+
+  private ScenarioMappings(Log log, int length, int size) {
+    this.log = log;
+    this.length = length;
+    this.size = size;
+  }
+
+  static ScenarioMappings empty() {
+    return new ScenarioMappings(new Log(), 0, 0);
+  }
+
+  int size() {
+    return size;
+  }
+
+  StubMapping get(UUID id) {
+    final Change change = log.latestFor(id, length);
+    return change != null ? change.mapping() : null;
+  }
+
+  /** Adds the stub, replacing any earlier version of it in its original position. */
+  ScenarioMappings with(StubMapping stubMapping) {
+    final StubMapping existing = get(stubMapping.getId());
+    return append(
+        new Change(stubMapping.getId(), stubMapping), existing, existing != null ? size : size + 1);
+  }
+
+  ScenarioMappings without(UUID stubId) {
+    final StubMapping existing = get(stubId);
+    if (existing == null) {
+      return this;
+    }
+
+    return append(new Change(stubId, null), existing, size - 1);
+  }
+
+  Collection<StubMapping> values() {
+    Map<UUID, StubMapping> mappings = replayed;
+    if (mappings == null) {
+      final Map<UUID, StubMapping> replaying = new LinkedHashMap<>();
+      for (Change change : log.prefix(length)) {
+        if (change.mapping() != null) {
+          replaying.put(change.id(), change.mapping());
+        } else {
+          replaying.remove(change.id());
+        }
+      }
+      mappings = Collections.unmodifiableMap(replaying);
+      replayed = mappings;
+    }
+    return mappings.values();
+  }
+
+  Set<String> possibleStates() {
+    Set<String> states = possibleStates;
+    if (states == null) {
+      states = Collections.unmodifiableSet(log.referencedStates(length, this::values));
+      possibleStates = states;
+    }
+    return states;
+  }
+
+  private ScenarioMappings append(Change change, StubMapping replaced, int newSize) {
+    if (length < 2 * Math.max(size, MIN_COMPACTED_LENGTH)
+        && log.appendAt(length, change, replaced)) {
+      return new ScenarioMappings(log, length + 1, newSize);
+    }
+
+    // Either branching from an older version, or most of the log is replaced or removed mappings,
+    // so start a new log holding just this version's mappings. Compacting only once the log has
+    // doubled keeps the copying linear overall.
+    final Log branch = Log.of(values());
+    final int branchLength = size;
+    branch.appendAt(branchLength, change, replaced);
+    return new ScenarioMappings(branch, branchLength + 1, newSize);
+  }
+
+  /** A mapping added or replaced, or removed if the mapping is null. */
+  private record Change(UUID id, StubMapping mapping) {}
+
+  private static final class Log {
+
+    private final List<Change> changes = new ArrayList<>();
+    private final Map<UUID, List<Integer>> positionsById = new HashMap<>();
+    // How many of the mappings at the end of the log refer to each state
+    private final Map<String, Integer> stateReferenceCounts = new HashMap<>();
+
+    synchronized boolean appendAt(int length, Change change, StubMapping replaced) {
+      if (changes.size() != length) {
+        return false;
+      }
+
+      positionsById.computeIfAbsent(change.id(), id -> new ArrayList<>(1)).add(changes.size());
+      changes.add(change);
+      adjustReferenceCounts(replaced, -1);
+      adjustReferenceCounts(change.mapping(), 1);
+      return true;
+    }
+
+    synchronized Change latestFor(UUID id, int length) {
+      final List<Integer> positions = positionsById.get(id);
+      if (positions == null) {
+        return null;
+      }
+
+      for (int i = positions.size() - 1; i >= 0; i--) {
+        if (positions.get(i) < length) {
+          return changes.get(positions.get(i));
+        }
+      }
+      return null;
+    }
+
+    synchronized List<Change> prefix(int length) {
+      return new ArrayList<>(changes.subList(0, length));
+    }
+
+    /**
+     * The counts kept for the end of the log answer this directly; a version further back works its
+     * states out from its own mappings.
+     */
+    Set<String> referencedStates(int length, Supplier<Collection<StubMapping>> mappings) {
+      synchronized (this) {
+        if (changes.size() == length) {
+          return new HashSet<>(stateReferenceCounts.keySet());
+        }
+      }
+
+      final Set<String> states = new HashSet<>();
+      for (StubMapping mapping : mappings.get()) {
+        addReferencedStates(mapping, states);
+      }
+      return states;
+    }
+
+    static Log of(Collection<StubMapping> mappings) {
+      final Log log = new Log();
+      for (StubMapping mapping : mappings) {
+        log.appendAt(log.changes.size(), new Change(mapping.getId(), mapping), null);
+      }
+      return log;
+    }
+
+    private void adjustReferenceCounts(StubMapping mapping, int delta) {
+      if (mapping == null) {
+        return;
+      }
+
+      final Set<String> states = new HashSet<>(2);
+      addReferencedStates(mapping, states);
+      for (String state : states) {
+        stateReferenceCounts.merge(
+            state, delta, (count, change) -> count + change == 0 ? null : count + change);
+      }
+    }
+
+    private static void addReferencedStates(StubMapping mapping, Set<String> states) {
+      if (mapping.getRequiredScenarioState() != null) {
+        states.add(mapping.getRequiredScenarioState());
+      }
+      if (mapping.getNewScenarioState() != null) {
+        states.add(mapping.getNewScenarioState());
+      }
+    }
+  }
+}
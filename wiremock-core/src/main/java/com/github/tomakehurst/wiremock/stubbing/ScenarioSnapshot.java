@@ -24,15 +24,25 @@ import java.util.stream.Stream;
  * An immutable, point-in-time view of all scenarios' states. Matching a single request reads state
  * through one snapshot so that a scenario advanced concurrently cannot change the state part way
  * through evaluating candidate stubs (which could otherwise leave the request unmatched).
+ *
+ * <p>Snapshots are tagged with the {@link
+ * com.github.tomakehurst.wiremock.store.ScenariosStore#getVersion() store version} they were taken
+ * at, so that one can be shared by every request until a scenario changes.
  */
 public class ScenarioSnapshot {
 
+  private final long version;
   private final Map<String, Scenario> scenariosByName;
 
-  ScenarioSnapshot(Stream<Scenario> all) {
+  ScenarioSnapshot(long version, Stream<Scenario> all) {
+    this.version = version;
     this.scenariosByName = all.collect(toMap(Scenario::getId, scenario -> scenario));
   }
 
+  long getVersion() {
+    return version;
+  }
+
   public boolean mappingMatchesScenarioState(StubMapping mapping) {
     Scenario scenario = scenariosByName.get(mapping.getScenarioName());
     String currentState = scenario == null ? null : scenario.getState();
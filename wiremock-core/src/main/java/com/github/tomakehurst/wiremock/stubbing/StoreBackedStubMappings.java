@@ -187,13 +187,7 @@ public class StoreBackedStubMappings implements StubMappings {
   @Override
   public StubMapping addMapping(StubMapping mapping) {
     if (store.get(mapping.getId()).isPresent()) {
-      String msg =
-          "ID of the provided stub mapping '"
-              + mapping.getId()
-              + "' is already taken by another stub mapping";
-      notifier().error(msg);
-      throw new InvalidInputException(
-          Errors.singleWithDetail(109, "Duplicate stub mapping ID", msg));
+      throw duplicateIdException(mapping.getId());
     }
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
@@ -222,6 +216,26 @@ public class StoreBackedStubMappings implements StubMappings {
     return mapping;
   }
 
+  @Override
+  public List<StubMapping> addMappings(List<StubMapping> mappings) {
+    Set<UUID> ids = new HashSet<>();
+    for (StubMapping mapping : mappings) {
+      if (!ids.add(mapping.getId()) || store.get(mapping.getId()).isPresent()) {
+        throw duplicateIdException(mapping.getId());
+      }
+    }
+
+    return updateMappings(mappings, List.of(), this::save);
+  }
+
+  private static InvalidInputException duplicateIdException(UUID id) {
+    String msg =
+        "ID of the provided stub mapping '" + id + "' is already taken by another stub mapping";
+    notifier().error(msg);
+    return new InvalidInputException(
+        Errors.singleWithDetail(109, "Duplicate stub mapping ID", msg));
+  }
+
   @Override
   public StubMapping removeMapping(StubMapping mapping) {
     for (StubLifecycleListener listener : stubLifecycleListeners) {
@@ -15,9 +15,13 @@
  */
 package com.github.tomakehurst.wiremock.stubbing;
 
+import com.github.tomakehurst.wiremock.common.Errors;
+import com.github.tomakehurst.wiremock.common.InvalidInputException;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.wiremock.annotations.PublishedAPI;
 
@@ -28,6 +32,27 @@ public interface StubMappings {
 
   StubMapping addMapping(StubMapping mapping);
 
+  /**
+   * Adds all of the given stubs, as if by {@link #addMapping(StubMapping)}, failing before any are
+   * added if one of their IDs is already taken.
+   */
+  default List<StubMapping> addMappings(List<StubMapping> mappings) {
+    final Set<UUID> ids = new HashSet<>();
+    for (StubMapping mapping : mappings) {
+      if (!ids.add(mapping.getId()) || get(mapping.getId()).isPresent()) {
+        throw new InvalidInputException(
+            Errors.singleWithDetail(
+                109,
+                "Duplicate stub mapping ID",
+                "ID of the provided stub mapping '"
+                    + mapping.getId()
+                    + "' is already taken by another stub mapping"));
+      }
+    }
+
+    return mappings.stream().map(this::addMapping).toList();
+  }
+
   StubMapping removeMapping(StubMapping mapping);
 
   List<StubMapping> removeMappings(List<StubMapping> toRemove);
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,10 @@ public abstract class AbstractRequestJournal implements RequestJournal {
 
   @Override
   public int countRequestsMatching(RequestPattern requestPattern) {
+    if (RequestPattern.ANYTHING.equals(requestPattern)) {
+      return (int) store.size();
+    }
+
     return (int) getRequests().filter(thatMatch(requestPattern, customMatchers)).count();
   }
 
@@ -106,6 +110,16 @@ public abstract class AbstractRequestJournal implements RequestJournal {
     return store.getAll().collect(toList());
   }
 
+  @Override
+  public List<ServeEvent> getUnmatchedServeEvents() {
+    return store.getAllUnmatched().collect(toList());
+  }
+
+  @Override
+  public Map<UUID, Long> getStubHitCounts() {
+    return store.getStubHitCounts();
+  }
+
   @Override
   public Optional<ServeEvent> getServeEvent(final UUID id) {
     return store.get(id);
@@ -122,8 +136,11 @@ public abstract class AbstractRequestJournal implements RequestJournal {
 
   private void removeOldEntries() {
     if (maxEntries != null) {
-      while (store.getAllKeys().count() > maxEntries) {
-        store.removeLast();
+      while (store.size() > maxEntries) {
+        if (!store.removeLast()) {
+          // Nothing left to evict, so stop rather than spin on a count that's out of step
+          break;
+        }
       }
     }
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2013-2025 Thomas Akehurst
+ * Copyright (C) 2013-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -39,6 +40,16 @@ public class DisabledRequestJournal implements RequestJournal {
     throw new RequestJournalDisabledException();
   }
 
+  @Override
+  public List<ServeEvent> getUnmatchedServeEvents() {
+    throw new RequestJournalDisabledException();
+  }
+
+  @Override
+  public Map<UUID, Long> getStubHitCounts() {
+    throw new RequestJournalDisabledException();
+  }
+
   @Override
   public Optional<ServeEvent> getServeEvent(UUID id) {
     throw new RequestJournalDisabledException();
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2016-2025 Thomas Akehurst
+ * Copyright (C) 2016-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,10 +15,6 @@
  */
 package com.github.tomakehurst.wiremock.verification;
 
-import static java.lang.Math.min;
-
-import com.github.tomakehurst.wiremock.matching.MatchResult;
-import com.github.tomakehurst.wiremock.matching.MemoizingMatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.stubbing.*;
@@ -55,20 +51,20 @@ public class NearMissCalculator {
   }
 
   public List<NearMiss> findNearestTo(final LoggedRequest request) {
-    List<StubMapping> allMappings = stubMappings.getAll();
-
-    return sortAndTruncate(
-        allMappings.stream()
-            .map(
-                stubMapping -> {
-                  MatchResult matchResult =
-                      new MemoizingMatchResult(
-                          stubMapping.getRequest().match(request, customMatchers));
-                  String actualScenarioState = getScenarioStateOrNull(stubMapping);
-                  return new NearMiss(request, stubMapping, matchResult, actualScenarioState);
-                })
-            .collect(Collectors.toList()),
-        allMappings.size());
+    return NearestCandidates.find(
+            stubMappings.getAll(),
+            NEAR_MISS_COUNT,
+            stubMapping -> stubMapping.getRequest().distanceLowerBound(request),
+            stubMapping -> stubMapping.getRequest().match(request, customMatchers))
+        .stream()
+        .map(
+            candidate ->
+                new NearMiss(
+                    request,
+                    candidate.item(),
+                    candidate.matchResult(),
+                    getScenarioStateOrNull(candidate.item())))
+        .collect(Collectors.toList());
   }
 
   private String getScenarioStateOrNull(StubMapping stubMapping) {
@@ -81,22 +77,16 @@ public class NearMissCalculator {
   }
 
   public List<NearMiss> findNearestTo(final RequestPattern requestPattern) {
-    List<ServeEvent> serveEvents = requestJournal.getAllServeEvents();
-    return sortAndTruncate(
-        serveEvents.stream()
-            .map(
-                serveEvent -> {
-                  MatchResult matchResult =
-                      new MemoizingMatchResult(
-                          requestPattern.match(serveEvent.getRequest(), customMatchers));
-                  return new NearMiss(serveEvent.getRequest(), requestPattern, matchResult);
-                })
-            .collect(Collectors.toList()),
-        serveEvents.size());
-  }
-
-  private static List<NearMiss> sortAndTruncate(List<NearMiss> nearMisses, int originalSize) {
-    nearMisses.sort(NEAR_MISS_ASCENDING_COMPARATOR);
-    return nearMisses.subList(0, min(NEAR_MISS_COUNT, originalSize));
+    return NearestCandidates.find(
+            requestJournal.getAllServeEvents(),
+            NEAR_MISS_COUNT,
+            serveEvent -> requestPattern.distanceLowerBound(serveEvent.getRequest()),
+            serveEvent -> requestPattern.match(serveEvent.getRequest(), customMatchers))
+        .stream()
+        .map(
+            candidate ->
+                new NearMiss(
+                    candidate.item().getRequest(), requestPattern, candidate.matchResult()))
+        .collect(Collectors.toList());
   }
 }
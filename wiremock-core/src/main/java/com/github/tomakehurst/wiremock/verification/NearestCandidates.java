@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.verification;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import com.github.tomakehurst.wiremock.common.RequestCache;
+import com.github.tomakehurst.wiremock.matching.MatchResult;
+import com.github.tomakehurst.wiremock.matching.MemoizingMatchResult;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Selects the few candidates whose match distance is smallest without scoring and sorting all of
+ * them. Ties are broken by position in the input, so the result is the same as a stable sort.
+ *
+ * <p>The input is split into chunks ranked in parallel on the common fork join pool, each keeping a
+ * bounded heap of its best candidates. Whenever a chunk's heap is full, the distance of its worst
+ * entry is an upper bound on the overall cut-off, and is shared with the other chunks so that any
+ * candidate whose cheap lower bound already exceeds it is skipped without being matched.
+ */
+class NearestCandidates<T> {
+
+  private static final int MIN_CHUNK_SIZE = 256;
+
+  private static final Comparator<Candidate<?>> NEAREST_FIRST =
+      Comparator.<Candidate<?>>comparingDouble(Candidate::distance)
+          .thenComparingInt(Candidate::index);
+
+  record Candidate<T>(int index, T item, MatchResult matchResult, double distance) {}
+
+  private final int limit;
+  private final DoubleAccumulator sharedCutOff;
+  private final PriorityQueue<Candidate<T>> furthestFirst;
+
+  private NearestCandidates(int limit, DoubleAccumulator sharedCutOff) {
+    this.limit = limit;
+    this.sharedCutOff = sharedCutOff;
+    this.furthestFirst = new PriorityQueue<>(limit + 1, NEAREST_FIRST.reversed());
+  }
+
+  static <T> List<Candidate<T>> find(
+      List<T> items,
+      int limit,
+      ToDoubleFunction<T> distanceLowerBound,
+      Function<T, MatchResult> matcher) {
+    final DoubleAccumulator sharedCutOff =
+        new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+    final int chunkCount =
+        max(1, min(ForkJoinPool.getCommonPoolParallelism(), items.size() / MIN_CHUNK_SIZE));
+
+    final IntStream chunks = IntStream.range(0, chunkCount);
+    return (chunkCount > 1 ? chunks.parallel() : chunks)
+        .mapToObj(
+            chunk -> {
+              final NearestCandidates<T> nearest = new NearestCandidates<>(limit, sharedCutOff);
+              nearest.rank(
+                  items,
+                  chunk * items.size() / chunkCount,
+                  (chunk + 1) * items.size() / chunkCount,
+                  distanceLowerBound,
+                  matcher);
+              return nearest;
+            })
+        .reduce(NearestCandidates::merge)
+        .map(NearestCandidates::nearestFirst)
+        .orElseGet(List::of);
+  }
+
+  private void rank(
+      List<T> items,
+      int from,
+      int to,
+      ToDoubleFunction<T> distanceLowerBound,
+      Function<T, MatchResult> matcher) {
+    try {
+      for (int index = from; index < to; index++) {
+        final T item = items.get(index);
+        if (distanceLowerBound.applyAsDouble(item) > sharedCutOff.get()) {
+          continue;
+        }
+
+        final MatchResult matchResult = new MemoizingMatchResult(matcher.apply(item));
+        offer(new Candidate<>(index, item, matchResult, matchResult.getDistance()));
+      }
+    } finally {
+      // Pool threads never see the end of a request, so drop anything matchers cached on them
+      if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+        RequestCache.onRequestEnd();
+      }
+    }
+  }
+
+  private void offer(Candidate<T> candidate) {
+    furthestFirst.add(candidate);
+    if (furthestFirst.size() > limit) {
+      furthestFirst.poll();
+    }
+    if (furthestFirst.size() == limit) {
+      sharedCutOff.accumulate(furthestFirst.peek().distance());
+    }
+  }
+
+  private NearestCandidates<T> merge(NearestCandidates<T> other) {
+    other.furthestFirst.forEach(this::offer);
+    return this;
+  }
+
+  private List<Candidate<T>> nearestFirst() {
+    final List<Candidate<T>> nearest = new ArrayList<>(furthestFirst);
+    nearest.sort(NEAREST_FIRST);
+    return nearest;
+  }
+}
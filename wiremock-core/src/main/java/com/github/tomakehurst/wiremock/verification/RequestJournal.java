@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,10 +15,15 @@
  */
 package com.github.tomakehurst.wiremock.verification;
 
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.StringValuePattern;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +37,25 @@ public interface RequestJournal {
 
   Optional<ServeEvent> getServeEvent(UUID id);
 
+  /**
+   * The events that were not matched by any stub, newest first. Journals that can answer this from
+   * an index should override it rather than scanning every event.
+   */
+  default List<ServeEvent> getUnmatchedServeEvents() {
+    return getAllServeEvents().stream().filter(ServeEvent::isNoExactMatch).collect(toList());
+  }
+
+  /**
+   * The number of events held for each stub mapping that served at least one, keyed by stub ID.
+   * Journals that can answer this from an index should override it rather than scanning every
+   * event.
+   */
+  default Map<UUID, Long> getStubHitCounts() {
+    return getAllServeEvents().stream()
+        .filter(event -> event.getStubMapping() != null)
+        .collect(groupingBy(event -> event.getStubMapping().getId(), counting()));
+  }
+
   void reset();
 
   void requestReceived(ServeEvent serveEvent);
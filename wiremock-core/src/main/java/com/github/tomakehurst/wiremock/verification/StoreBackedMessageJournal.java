@@ -168,8 +168,11 @@ public class StoreBackedMessageJournal implements MessageJournal {
 
   private void removeOldEntries() {
     if (maxEntries != null) {
-      while (store.getAllKeys().count() > maxEntries) {
-        store.removeLast();
+      while (store.size() > maxEntries) {
+        if (!store.removeLast()) {
+          // Nothing left to evict, so stop rather than spin on a count that's out of step
+          break;
+        }
       }
     }
   }
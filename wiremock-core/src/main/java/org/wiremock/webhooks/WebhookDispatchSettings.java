@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.webhooks;
+
+/**
+ * Controls how webhooks are queued and fired. By default there is no limit on how many can be
+ * waiting to fire, and each one occupies a thread of the webhook pool for its whole round trip.
+ */
+public class WebhookDispatchSettings {
+
+  public enum OverflowPolicy {
+    /** Discard webhooks triggered while the queue is full, logging an error against each. */
+    DROP,
+    /**
+     * Hold the thread that triggered the webhook until there is room, pushing back on whatever is
+     * generating the load.
+     *
+     * <p><b>The thread held is the one serving the stub request</b>, so while the queue is full
+     * the client that triggered the webhook gets no response, and each such request ties up a
+     * container thread. There is no timeout: a target that never answers will stall stub serving
+     * until its requests fail. Only use this where every webhook must be delivered and the
+     * targets are known to keep up.
+     */
+    BLOCK
+  }
+
+  public static final WebhookDispatchSettings DEFAULTS =
+      new WebhookDispatchSettings(0, OverflowPolicy.DROP, 0, false);
+
+  private final int maxQueuedWebhooks;
+  private final OverflowPolicy overflowPolicy;
+  private final int maxConcurrentRequestsPerTarget;
+  private final boolean virtualThreads;
+
+  /**
+   * @param maxQueuedWebhooks how many webhooks can be waiting for their delay to elapse or for a
+   *     connection to their target at once, or 0 for no limit
+   * @param overflowPolicy what to do with a webhook triggered when the queue is full
+   * @param maxConcurrentRequestsPerTarget how many webhook requests can be in flight to the same
+   *     scheme, host and port at once, or 0 for no limit
+   * @param virtualThreads whether to make webhook requests on virtual threads, leaving the webhook
+   *     pool to do nothing but time delays. Ignored when the JVM doesn't support them.
+   */
+  public WebhookDispatchSettings(
+      int maxQueuedWebhooks,
+      OverflowPolicy overflowPolicy,
+      int maxConcurrentRequestsPerTarget,
+      boolean virtualThreads) {
+    this.maxQueuedWebhooks = maxQueuedWebhooks;
+    this.overflowPolicy = overflowPolicy;
+    this.maxConcurrentRequestsPerTarget = maxConcurrentRequestsPerTarget;
+    this.virtualThreads = virtualThreads;
+  }
+
+  public int getMaxQueuedWebhooks() {
+    return maxQueuedWebhooks;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  public int getMaxConcurrentRequestsPerTarget() {
+    return maxConcurrentRequestsPerTarget;
+  }
+
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.webhooks;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class WebhookDispatchStatistics {
+
+  private final boolean virtualThreads;
+  private final int queued;
+  private final int inFlight;
+  private final long fired;
+  private final long dropped;
+  private final double meanLatenessMillis;
+  private final double maxLatenessMillis;
+
+  @JsonCreator
+  public WebhookDispatchStatistics(
+      @JsonProperty("virtualThreads") boolean virtualThreads,
+      @JsonProperty("queued") int queued,
+      @JsonProperty("inFlight") int inFlight,
+      @JsonProperty("fired") long fired,
+      @JsonProperty("dropped") long dropped,
+      @JsonProperty("meanLatenessMillis") double meanLatenessMillis,
+      @JsonProperty("maxLatenessMillis") double maxLatenessMillis) {
+    this.virtualThreads = virtualThreads;
+    this.queued = queued;
+    this.inFlight = inFlight;
+    this.fired = fired;
+    this.dropped = dropped;
+    this.meanLatenessMillis = meanLatenessMillis;
+    this.maxLatenessMillis = maxLatenessMillis;
+  }
+
+  /** Whether webhook requests are actually being made on virtual threads. */
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /** Webhooks waiting for their delay to elapse or for a connection to their target. */
+  public int getQueued() {
+    return queued;
+  }
+
+  public int getInFlight() {
+    return inFlight;
+  }
+
+  public long getFired() {
+    return fired;
+  }
+
+  /** Webhooks discarded because the queue was full. */
+  public long getDropped() {
+    return dropped;
+  }
+
+  /** How long after its delay elapsed a webhook's request was actually started, on average. */
+  public double getMeanLatenessMillis() {
+    return meanLatenessMillis;
+  }
+
+  public double getMaxLatenessMillis() {
+    return maxLatenessMillis;
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wiremock.webhooks;
+
+import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.github.tomakehurst.wiremock.common.VirtualThreads;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fires webhooks once their delay has elapsed, applying the limits in {@link
+ * WebhookDispatchSettings}. The scheduler only ever times delays; when virtual threads are
+ * available and enabled each request is then handed to one, otherwise it runs on the scheduler
+ * thread as it always has.
+ *
+ * <p>A webhook due while its target is already at its concurrency limit never waits on a thread.
+ * It is parked in that target's queue and handed back to the executor when one of the target's
+ * requests finishes. Targets with nothing in flight or waiting are forgotten.
+ */
+class WebhookDispatcher {
+
+  private final ScheduledExecutorService scheduler;
+  private final WebhookDispatchSettings settings;
+  private final Executor requestExecutor;
+  private final boolean virtualThreads;
+  private final Semaphore queueCapacity;
+  private final Map<String, TargetState> targets = new HashMap<>();
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder fired = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder totalLatenessNanos = new LongAdder();
+  private final LongAccumulator maxLatenessNanos = new LongAccumulator(Math::max, 0);
+
+  WebhookDispatcher(ScheduledExecutorService scheduler, WebhookDispatchSettings settings) {
+    this.scheduler = scheduler;
+    this.settings = settings;
+
+    final Optional<ExecutorService> virtualThreadExecutor =
+        settings.isVirtualThreads() ? newVirtualThreadPerTaskExecutor() : Optional.empty();
+    this.virtualThreads = virtualThreadExecutor.isPresent();
+    this.requestExecutor = virtualThreads ? virtualThreadExecutor.get() : scheduler;
+
+    this.queueCapacity =
+        settings.getMaxQueuedWebhooks() > 0 ? new Semaphore(settings.getMaxQueuedWebhooks()) : null;
+  }
+
+  /**
+   * Queues the webhook to be run against the given target once the delay has elapsed, returning
+   * false if it was dropped because the queue was full. Under {@link
+   * WebhookDispatchSettings.OverflowPolicy#BLOCK} this holds the calling thread until there is
+   * room.
+   */
+  boolean dispatch(String target, long delayMillis, Runnable webhook) {
+    if (!reserveQueueSlot()) {
+      dropped.increment();
+      return false;
+    }
+
+    queued.incrementAndGet();
+    final Pending pending =
+        new Pending(target, System.nanoTime() + MILLISECONDS.toNanos(delayMillis), webhook);
+    try {
+      scheduler.schedule(() -> startOrPark(pending), delayMillis, MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      leaveQueue();
+      throw e;
+    }
+
+    return true;
+  }
+
+  WebhookDispatchStatistics getStatistics() {
+    final long firedCount = fired.sum();
+    return new WebhookDispatchStatistics(
+        virtualThreads,
+        queued.get(),
+        inFlight.get(),
+        firedCount,
+        dropped.sum(),
+        firedCount > 0 ? nanosToMillis(totalLatenessNanos.sum()) / firedCount : 0,
+        nanosToMillis(maxLatenessNanos.get()));
+  }
+
+  int getTrackedTargetCount() {
+    synchronized (targets) {
+      return targets.size();
+    }
+  }
+
+  private boolean reserveQueueSlot() {
+    if (queueCapacity == null) {
+      return true;
+    }
+
+    if (settings.getOverflowPolicy() == WebhookDispatchSettings.OverflowPolicy.BLOCK) {
+      try {
+        queueCapacity.acquire();
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    return queueCapacity.tryAcquire();
+  }
+
+  private void leaveQueue() {
+    queued.decrementAndGet();
+    if (queueCapacity != null) {
+      queueCapacity.release();
+    }
+  }
+
+  private void startOrPark(Pending pending) {
+    final int limit = settings.getMaxConcurrentRequestsPerTarget();
+    if (limit > 0) {
+      synchronized (targets) {
+        final TargetState state = targets.computeIfAbsent(pending.target, t -> new TargetState());
+        if (state.active >= limit) {
+          state.waiting.add(pending);
+          return;
+        }
+        state.active++;
+      }
+    }
+
+    start(pending);
+  }
+
+  private void start(Pending pending) {
+    if (virtualThreads) {
+      execute(pending);
+    } else {
+      fire(pending);
+    }
+  }
+
+  private void execute(Pending pending) {
+    try {
+      requestExecutor.execute(() -> fire(pending));
+    } catch (RejectedExecutionException e) {
+      // Only happens once the executor is shutting down, along with the rest of WireMock
+      leaveQueue();
+      finished(pending.target);
+    }
+  }
+
+  private void fire(Pending pending) {
+    leaveQueue();
+    final long lateness = Math.max(0, System.nanoTime() - pending.dueAt);
+    totalLatenessNanos.add(lateness);
+    maxLatenessNanos.accumulate(lateness);
+    fired.increment();
+    inFlight.incrementAndGet();
+
+    try {
+      pending.webhook.run();
+    } finally {
+      inFlight.decrementAndGet();
+      finished(pending.target);
+    }
+  }
+
+  // Hands the target's slot straight to the next webhook waiting for it, if there is one
+  private void finished(String target) {
+    if (settings.getMaxConcurrentRequestsPerTarget() <= 0) {
+      return;
+    }
+
+    final Pending next;
+    synchronized (targets) {
+      final TargetState state = targets.get(target);
+      next = state.waiting.poll();
+      if (next == null && --state.active == 0) {
+        targets.remove(target);
+      }
+    }
+
+    if (next != null) {
+      // Always submitted rather than run here, so a long queue can't build up the stack
+      execute(next);
+    }
+  }
+
+  private static double nanosToMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    final Optional<ExecutorService> executor =
+        VirtualThreads.newVirtualThreadPerTaskExecutor("wiremock-webhook");
+    if (executor.isEmpty()) {
+      notifier()
+          .info(
+              "Virtual threads are not available on this JVM, so webhooks will be fired on the"
+                  + " webhook thread pool");
+    }
+    return executor;
+  }
+
+  private static class Pending {
+    private final String target;
+    private final long dueAt;
+    private final Runnable webhook;
+
+    private Pending(String target, long dueAt, Runnable webhook) {
+      this.target = target;
+      this.dueAt = dueAt;
+      this.webhook = webhook;
+    }
+  }
+
+  private static class TargetState {
+    private int active;
+    private final Queue<Pending> waiting = new ArrayDeque<>();
+  }
+}
@@ -17,11 +17,12 @@ package org.wiremock.webhooks;
 
 import static com.github.tomakehurst.wiremock.common.LocalNotifier.notifier;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 
+import com.github.tomakehurst.wiremock.admin.Router;
 import com.github.tomakehurst.wiremock.common.*;
 import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.extension.AdminApiExtension;
 import com.github.tomakehurst.wiremock.extension.Parameters;
 import com.github.tomakehurst.wiremock.extension.PostServeAction;
 import com.github.tomakehurst.wiremock.extension.ServeEventListener;
@@ -37,9 +38,9 @@ import java.util.*;
 import java.util.concurrent.ScheduledExecutorService;
 
 @SuppressWarnings("deprecation") // maintaining PostServeAction for backwards compatibility
-public class Webhooks extends PostServeAction implements ServeEventListener {
+public class Webhooks extends PostServeAction implements ServeEventListener, AdminApiExtension {
 
-  private final ScheduledExecutorService scheduler;
+  private final WebhookDispatcher dispatcher;
   private final HttpClient httpClient;
   private final List<WebhookTransformer> transformers;
   private final TemplateEngine templateEngine;
@@ -50,8 +51,16 @@ public class Webhooks extends PostServeAction implements ServeEventListener {
       WireMockServices wireMockServices,
       ScheduledExecutorService scheduler,
       List<WebhookTransformer> transformers) {
+    this(wireMockServices, scheduler, transformers, WebhookDispatchSettings.DEFAULTS);
+  }
+
+  public Webhooks(
+      WireMockServices wireMockServices,
+      ScheduledExecutorService scheduler,
+      List<WebhookTransformer> transformers,
+      WebhookDispatchSettings dispatchSettings) {
 
-    this.scheduler = scheduler;
+    this.dispatcher = new WebhookDispatcher(scheduler, dispatchSettings);
     this.httpClient = wireMockServices.getDefaultHttpClient();
     this.transformers = transformers;
     this.templateEngine = wireMockServices.getTemplateEngine();
@@ -75,7 +84,6 @@ public class Webhooks extends PostServeAction implements ServeEventListener {
     triggerWebhook(serveEvent, parameters);
   }
 
-  @SuppressWarnings("FutureReturnValueIgnored")
   private void triggerWebhook(ServeEvent serveEvent, Parameters parameters) {
     final Notifier notifier = notifier();
 
@@ -98,43 +106,55 @@ public class Webhooks extends PostServeAction implements ServeEventListener {
     }
 
     final WebhookDefinition finalDefinition = definition;
-    scheduler.schedule(
-        () -> {
-          try {
-            Response response = httpClient.execute(request);
-            notifier.info(
-                String.format(
-                    "Webhook %s request to %s returned status %s\n\n%s",
-                    finalDefinition.getMethod(),
-                    finalDefinition.getUrl(),
-                    response.getStatus(),
-                    response.getBodyAsString()));
-            serveEvent.appendSubEvent(
-                "WEBHOOK_RESPONSE",
-                LoggedResponse.from(
-                    response, this.dataTruncationSettings.getMaxResponseBodySize()));
-          } catch (ProhibitedNetworkAddressException e) {
-            final String msg =
-                String.format(
-                    "The target webhook address %s specified by stub %s is denied in WireMock's configuration.",
-                    finalDefinition.getUrl(),
-                    getFirstNonNull(
-                        serveEvent.getStubMapping().getName(),
-                        serveEvent.getStubMapping().getId(),
-                        "<no name or id>"));
-            notifier.error(msg);
-            serveEvent.appendSubEvent(SubEvent.error(msg));
-          } catch (Exception e) {
-            final String msg =
-                String.format(
-                    "Failed to fire webhook %s %s",
-                    finalDefinition.getMethod(), finalDefinition.getUrl());
-            notifier.error(msg, e);
-            serveEvent.appendSubEvent(SubEvent.error(msg + ": " + e.getMessage()));
-          }
-        },
-        finalDefinition.getDelaySampleMillis(),
-        MILLISECONDS);
+    final String target = request.getScheme() + "://" + request.getHost() + ":" + request.getPort();
+    final boolean queued =
+        dispatcher.dispatch(
+            target,
+            finalDefinition.getDelaySampleMillis(),
+            () -> {
+              try {
+                Response response = httpClient.execute(request);
+                notifier.info(
+                    String.format(
+                        "Webhook %s request to %s returned status %s\n\n%s",
+                        finalDefinition.getMethod(),
+                        finalDefinition.getUrl(),
+                        response.getStatus(),
+                        response.getBodyAsString()));
+                serveEvent.appendSubEvent(
+                    "WEBHOOK_RESPONSE",
+                    LoggedResponse.from(
+                        response, this.dataTruncationSettings.getMaxResponseBodySize()));
+              } catch (ProhibitedNetworkAddressException e) {
+                final String msg =
+                    String.format(
+                        "The target webhook address %s specified by stub %s is denied in WireMock's"
+                            + " configuration.",
+                        finalDefinition.getUrl(),
+                        getFirstNonNull(
+                            serveEvent.getStubMapping().getName(),
+                            serveEvent.getStubMapping().getId(),
+                            "<no name or id>"));
+                notifier.error(msg);
+                serveEvent.appendSubEvent(SubEvent.error(msg));
+              } catch (Exception e) {
+                final String msg =
+                    String.format(
+                        "Failed to fire webhook %s %s",
+                        finalDefinition.getMethod(), finalDefinition.getUrl());
+                notifier.error(msg, e);
+                serveEvent.appendSubEvent(SubEvent.error(msg + ": " + e.getMessage()));
+              }
+            });
+
+    if (!queued) {
+      final String msg =
+          String.format(
+              "Webhook %s %s was dropped because the webhook queue is full",
+              finalDefinition.getMethod(), finalDefinition.getUrl());
+      notifier.error(msg);
+      serveEvent.appendSubEvent(SubEvent.error(msg));
+    }
   }
 
   private WebhookDefinition applyTemplating(
@@ -191,6 +211,18 @@ public class Webhooks extends PostServeAction implements ServeEventListener {
     return requestBuilder.build();
   }
 
+  @Override
+  public void contributeAdminApiRoutes(Router router) {
+    router.add(
+        RequestMethod.GET,
+        "/webhooks/dispatcher",
+        (admin, serveEvent, pathParams) -> ResponseDefinition.okForJson(getStatistics()));
+  }
+
+  public WebhookDispatchStatistics getStatistics() {
+    return dispatcher.getStatistics();
+  }
+
   @Override
   public boolean applyGlobally() {
     return false;
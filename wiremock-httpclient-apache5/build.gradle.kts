@@ -5,6 +5,7 @@ plugins {
 dependencies {
     api(libs.apache.http5.client)
     api(libs.apache.http5.core)
+    api(libs.apache.http5.core.h2)
 
     api(project(":wiremock-core"))
     implementation(project(":wiremock-core:certificate-generator"))
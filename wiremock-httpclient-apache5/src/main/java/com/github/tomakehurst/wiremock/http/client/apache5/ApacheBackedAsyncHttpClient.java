@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http.client.apache5;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+import static com.github.tomakehurst.wiremock.http.client.apache5.ApacheBackedHttpClient.headersToSend;
+import static com.github.tomakehurst.wiremock.http.client.apache5.ApacheBackedHttpClient.responseBuilderFor;
+import static com.github.tomakehurst.wiremock.http.client.apache5.ApacheBackedHttpClient.safelyToUri;
+import static java.util.Objects.requireNonNull;
+
+import com.github.tomakehurst.wiremock.common.Gzip;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.http.client.HttpClient;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+
+/**
+ * An {@link HttpClient} backed by Apache's asynchronous client, which waits for responses on its
+ * own I/O threads rather than the caller's and negotiates HTTP/2 with TLS upstreams, multiplexing
+ * concurrent requests over a connection per upstream.
+ */
+public class ApacheBackedAsyncHttpClient implements HttpClient {
+
+  // Connection-specific headers aren't allowed in HTTP/2 requests, so they are dropped here as
+  // well as those every client drops
+  private static final Set<String> CONNECTION_SPECIFIC_HEADERS =
+      Set.of("keep-alive", "proxy-connection", "te");
+
+  private final CloseableHttpAsyncClient apacheHttpClient;
+  private final boolean preserveUserAgentProxyHeader;
+
+  public ApacheBackedAsyncHttpClient(
+      CloseableHttpAsyncClient apacheHttpClient, boolean preserveUserAgentProxyHeader) {
+    this.apacheHttpClient = apacheHttpClient;
+    this.preserveUserAgentProxyHeader = preserveUserAgentProxyHeader;
+  }
+
+  @Override
+  public Response execute(Request request) throws IOException {
+    try {
+      return executeAsync(request).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for " + request.getUrl());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      return throwUnchecked(e.getCause(), Response.class);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Response> executeAsync(Request request) {
+    final CompletableFuture<Response> result = new CompletableFuture<>();
+    apacheHttpClient.execute(
+        createApacheRequest(request),
+        SimpleResponseConsumer.create(),
+        new FutureCallback<>() {
+          @Override
+          public void completed(SimpleHttpResponse apacheResponse) {
+            result.complete(toWireMockHttpResponse(apacheResponse));
+          }
+
+          @Override
+          public void failed(Exception e) {
+            result.completeExceptionally(e);
+          }
+
+          @Override
+          public void cancelled() {
+            result.cancel(false);
+          }
+        });
+    return result;
+  }
+
+  private AsyncRequestProducer createApacheRequest(Request request) {
+    final AsyncRequestBuilder requestBuilder =
+        AsyncRequestBuilder.create(request.getMethod().getName())
+            .setUri(safelyToUri(requireNonNull(request.getTypedAbsoluteUrl())))
+            .setHeaders(
+                Arrays.stream(headersToSend(request, preserveUserAgentProxyHeader))
+                    .filter(
+                        header ->
+                            !CONNECTION_SPECIFIC_HEADERS.contains(
+                                header.getName().toLowerCase(Locale.ROOT)))
+                    .toArray(Header[]::new));
+
+    if (request.getBody() != null) {
+      final ContentType contentType =
+          request.contentTypeHeader().isPresent()
+              ? ContentType.parse(request.contentTypeHeader().firstValue())
+              : null;
+      final boolean chunked =
+          request.containsHeader(TRANSFER_ENCODING)
+              && request.header(TRANSFER_ENCODING).firstValue().equals("chunked");
+      final byte[] body =
+          request.containsHeader(CONTENT_ENCODING)
+                  && request.header(CONTENT_ENCODING).firstValue().contains("gzip")
+              ? Gzip.gzip(request.getBody())
+              : request.getBody();
+
+      requestBuilder.setEntity(new BasicAsyncEntityProducer(body, contentType, chunked));
+    }
+
+    return requestBuilder.build();
+  }
+
+  private static Response toWireMockHttpResponse(SimpleHttpResponse apacheResponse) {
+    final Response.Builder responseBuilder = responseBuilderFor(apacheResponse);
+
+    final byte[] data = apacheResponse.getBodyBytes();
+    if (data != null) {
+      responseBuilder.body(data);
+    }
+
+    return responseBuilder.build();
+  }
+}
@@ -21,13 +21,17 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
+import com.github.tomakehurst.wiremock.common.PassThroughInputStreamSource;
+import com.github.tomakehurst.wiremock.common.entity.Entity;
 import com.github.tomakehurst.wiremock.http.HttpHeader;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.http.client.HttpClient;
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
@@ -60,6 +64,43 @@ public class ApacheBackedHttpClient implements HttpClient {
     return apacheHttpClient.execute(apacheRequest, ApacheBackedHttpClient::toWireMockHttpResponse);
   }
 
+  @Override
+  public Response executeStreaming(Request request) throws IOException {
+    ClassicHttpRequest apacheRequest = createApacheRequest(request, preserveUserAgentProxyHeader);
+    final ClassicHttpResponse apacheResponse =
+        apacheHttpClient.executeOpen(null, apacheRequest, null);
+    try {
+      final Response.Builder responseBuilder = responseBuilderFor(apacheResponse);
+      final HttpEntity entity = apacheResponse.getEntity();
+      if (entity == null) {
+        apacheResponse.close();
+        return responseBuilder.build();
+      }
+
+      // Closing the body releases the connection along with the response
+      final InputStream content =
+          new FilterInputStream(entity.getContent()) {
+            @Override
+            public void close() throws IOException {
+              try {
+                super.close();
+              } finally {
+                apacheResponse.close();
+              }
+            }
+          };
+      return responseBuilder
+          .body(
+              Entity.builder()
+                  .setDataStreamSource(new PassThroughInputStreamSource(content))
+                  .build())
+          .build();
+    } catch (IOException | RuntimeException e) {
+      apacheResponse.close();
+      throw e;
+    }
+  }
+
   private static ClassicHttpRequest createApacheRequest(
       Request request, boolean preserveUserAgentProxyHeader) {
     ContentType contentType =
@@ -71,19 +112,7 @@ public class ApacheBackedHttpClient implements HttpClient {
     final ClassicRequestBuilder requestBuilder =
         ClassicRequestBuilder.create(request.getMethod().getName())
             .setUri(uri)
-            .setHeaders(
-                request.getHeaders().all().stream()
-                    .filter(
-                        header ->
-                            !FORBIDDEN_REQUEST_HEADERS.contains(
-                                    header.key().toLowerCase(Locale.ROOT))
-                                || (preserveUserAgentProxyHeader
-                                    && header.key().equalsIgnoreCase(USER_AGENT)))
-                    .flatMap(
-                        header ->
-                            header.values().stream()
-                                .map(headerValue -> new BasicHeader(header.key(), headerValue)))
-                    .toArray(Header[]::new));
+            .setHeaders(headersToSend(request, preserveUserAgentProxyHeader));
 
     if (request.getBody() != null) {
       HttpEntity entity =
@@ -99,7 +128,20 @@ public class ApacheBackedHttpClient implements HttpClient {
     return requestBuilder.build();
   }
 
-  private static @NonNull URI safelyToUri(@NonNull AbsoluteUrl absoluteUrl) {
+  static Header[] headersToSend(Request request, boolean preserveUserAgentProxyHeader) {
+    return request.getHeaders().all().stream()
+        .filter(
+            header ->
+                !FORBIDDEN_REQUEST_HEADERS.contains(header.key().toLowerCase(Locale.ROOT))
+                    || (preserveUserAgentProxyHeader && header.key().equalsIgnoreCase(USER_AGENT)))
+        .flatMap(
+            header ->
+                header.values().stream()
+                    .map(headerValue -> new BasicHeader(header.key(), headerValue)))
+        .toArray(Header[]::new);
+  }
+
+  static @NonNull URI safelyToUri(@NonNull AbsoluteUrl absoluteUrl) {
     try {
       return absoluteUrl.toJavaUri();
     } catch (IllegalArgumentException e) {
@@ -119,6 +161,18 @@ public class ApacheBackedHttpClient implements HttpClient {
 
   private static Response toWireMockHttpResponse(ClassicHttpResponse apacheResponse)
       throws IOException {
+    final Response.Builder responseBuilder = responseBuilderFor(apacheResponse);
+
+    final HttpEntity entity = apacheResponse.getEntity();
+    if (entity != null) {
+      final byte[] data = EntityUtils.toByteArray(entity);
+      responseBuilder.body(data);
+    }
+
+    return responseBuilder.build();
+  }
+
+  static Response.Builder responseBuilderFor(HttpResponse apacheResponse) {
     final List<HttpHeader> headers =
         Arrays.stream(apacheResponse.getHeaders())
             .collect(groupingBy(NameValuePair::getName))
@@ -134,21 +188,16 @@ public class ApacheBackedHttpClient implements HttpClient {
             .collect(toUnmodifiableList());
 
     final Response.Builder responseBuilder =
-        response()
-            .status(apacheResponse.getCode())
-            .headers(new HttpHeaders(headers))
-            .protocol(apacheResponse.getVersion().toString());
+        response().status(apacheResponse.getCode()).headers(new HttpHeaders(headers));
 
-    final HttpEntity entity = apacheResponse.getEntity();
-    if (entity != null) {
-      final byte[] data = EntityUtils.toByteArray(entity);
-      responseBuilder.body(data);
+    if (apacheResponse.getVersion() != null) {
+      responseBuilder.protocol(apacheResponse.getVersion().toString());
     }
 
     if (apacheResponse.getReasonPhrase() != null) {
       responseBuilder.statusMessage(apacheResponse.getReasonPhrase());
     }
 
-    return responseBuilder.build();
+    return responseBuilder;
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2023-2025 Thomas Akehurst
+ * Copyright (C) 2023-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import com.github.tomakehurst.wiremock.http.client.HttpClient;
 import com.github.tomakehurst.wiremock.http.client.HttpClientFactory;
 import java.util.Collections;
 import java.util.List;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 
 public class ApacheHttpClientFactory implements HttpClientFactory {
@@ -36,6 +37,32 @@ public class ApacheHttpClientFactory implements HttpClientFactory {
       boolean trustAllCertificates,
       List<String> trustedHosts,
       boolean useSystemProperties) {
+    if (options.getAsyncHttpClientEnabled()) {
+      if (options.getProxyResponseStreamingEnabled()) {
+        options
+            .notifier()
+            .info(
+                "Proxy response streaming is not supported by the asynchronous HTTP client, so"
+                    + " proxied responses will be buffered in full before being sent on");
+      }
+
+      final CloseableHttpAsyncClient apacheAsyncClient =
+          StaticApacheHttpClientFactory.createAsyncClient(
+              options.getMaxHttpClientConnections(),
+              options.proxyTimeout(),
+              options.proxyVia(),
+              options.httpsSettings().trustStore(),
+              trustAllCertificates,
+              trustedHosts,
+              useSystemProperties,
+              options.getProxyTargetRules(),
+              options.getDisableConnectionReuse(),
+              null);
+
+      return new ApacheBackedAsyncHttpClient(
+          apacheAsyncClient, options.shouldPreserveUserAgentProxyHeader());
+    }
+
     final CloseableHttpClient apacheClient =
         createClient(
             options.getMaxHttpClientConnections(),
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2011-2025 Thomas Akehurst
+ * Copyright (C) 2011-2026 Thomas Akehurst
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,18 +32,26 @@ import java.util.List;
 import javax.net.ssl.SSLContext;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.impl.DefaultAuthenticationStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.HostnameVerificationPolicy;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.config.CharCodingConfig;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
 import org.apache.hc.core5.util.TextUtils;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
@@ -124,6 +132,94 @@ class StaticApacheHttpClientFactory {
     return builder.build();
   }
 
+  static CloseableHttpAsyncClient createAsyncClient(
+      int maxConnections,
+      int timeoutMilliseconds,
+      ProxySettings proxySettings,
+      KeyStoreSettings trustStoreSettings,
+      boolean trustAllCertificates,
+      final List<String> trustedHosts,
+      boolean useSystemProperties,
+      NetworkAddressRules networkAddressRules,
+      boolean disableConnectionReuse,
+      String userAgent) {
+
+    HttpAsyncClientBuilder builder =
+        HttpAsyncClientBuilder.create()
+            .disableAuthCaching()
+            .disableAutomaticRetries()
+            .disableCookieManagement()
+            .disableRedirectHandling()
+            .disableContentCompression()
+            .setCharCodingConfig(CharCodingConfig.custom().setCharset(UTF_8).build())
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setResponseTimeout(Timeout.ofMilliseconds(timeoutMilliseconds))
+                    .setProtocolUpgradeEnabled(false)
+                    .build());
+
+    builder.setUserAgent(userAgent != null ? userAgent : "WireMock " + Version.getCurrentVersion());
+
+    if (disableConnectionReuse) {
+      builder
+          .setConnectionReuseStrategy((request, response, context) -> false)
+          .setKeepAliveStrategy((response, context) -> TimeValue.ZERO_MILLISECONDS);
+    }
+
+    if (useSystemProperties) {
+      builder.useSystemProperties();
+    }
+
+    if (proxySettings != NO_PROXY) {
+      builder.setProxy(new HttpHost(proxySettings.host(), proxySettings.port()));
+      if (isNotEmpty(proxySettings.getUsername()) && isNotEmpty(proxySettings.getPassword())) {
+        BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(
+            new AuthScope(proxySettings.host(), proxySettings.port()),
+            new UsernamePasswordCredentials(
+                proxySettings.getUsername(), proxySettings.getPassword().toCharArray()));
+        builder.setDefaultCredentialsProvider(credentialsProvider);
+      }
+    }
+
+    final SSLContext sslContext =
+        buildSslContext(trustStoreSettings, trustAllCertificates, trustedHosts);
+    final TlsConfig.Builder tlsConfig =
+        TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE);
+    final String[] supportedProtocols = split(System.getProperty("https.protocols"));
+    if (supportedProtocols != null) {
+      tlsConfig.setSupportedProtocols(supportedProtocols);
+    }
+    final String[] supportedCipherSuites = split(System.getProperty("https.cipherSuites"));
+    if (supportedCipherSuites != null) {
+      tlsConfig.setSupportedCipherSuites(supportedCipherSuites);
+    }
+
+    // HTTP/2 connections are shared between concurrent requests rather than leased to one at a
+    // time, so maxConnections only bounds the number of HTTP/1.1 requests in flight
+    builder.setConnectionManager(
+        PoolingAsyncClientConnectionManagerBuilder.create()
+            .setTlsStrategy(
+                ClientTlsStrategyBuilder.create()
+                    .setSslContext(sslContext)
+                    .setHostVerificationPolicy(HostnameVerificationPolicy.BUILTIN)
+                    .buildAsync())
+            .setDefaultTlsConfig(tlsConfig.build())
+            .setDnsResolver(new NetworkAddressRulesAdheringDnsResolver(networkAddressRules))
+            .setMaxConnPerRoute(maxConnections)
+            .setMaxConnTotal(maxConnections)
+            .setMessageMultiplexing(true)
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                    .build())
+            .build());
+
+    final CloseableHttpAsyncClient client = builder.build();
+    client.start();
+    return client;
+  }
+
   private static LayeredConnectionSocketFactory buildSslConnectionSocketFactory(
       final SSLContext sslContext) {
     final String[] supportedProtocols = split(System.getProperty("https.protocols"));
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.jetty;
+
+import static com.github.tomakehurst.wiremock.common.ContentTypes.CONTENT_LENGTH;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.PassThroughInputStreamSource;
+import com.github.tomakehurst.wiremock.common.StreamSources;
+import com.github.tomakehurst.wiremock.common.WritableInputStreamSource;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.Response;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Dribbles a response body out in chunks without holding a thread between them. The body is read
+ * from its stream one chunk at a time as each becomes due, written using the servlet non-blocking
+ * output API, and the next chunk is only scheduled once Jetty has accepted and flushed the previous
+ * one, so a slow or stalled client never causes chunks to pile up in memory.
+ */
+class ChunkedDribbleWriter implements WriteListener {
+
+  /** How much of a body whose length isn't known up front is sent with each chunk. */
+  static final int UNKNOWN_LENGTH_CHUNK_SIZE = 1024;
+
+  static final long UNKNOWN_LENGTH = -1;
+
+  private final AsyncContext asyncContext;
+  private final ServletOutputStream out;
+  private final InputStreamSource bodySource;
+  private final InputStream body;
+  private final int[] chunkSizes;
+  private final long chunkInterval;
+  private final ScheduledExecutorService scheduler;
+
+  private final AtomicReference<Runnable> onWritable = new AtomicReference<>();
+  private final AtomicBoolean finished = new AtomicBoolean();
+  private int nextChunk;
+  private boolean reachedEnd;
+
+  private ChunkedDribbleWriter(
+      AsyncContext asyncContext,
+      ServletOutputStream out,
+      InputStreamSource bodySource,
+      int[] chunkSizes,
+      long chunkInterval,
+      ScheduledExecutorService scheduler) {
+    this.asyncContext = asyncContext;
+    this.out = out;
+    this.bodySource = bodySource;
+    this.body = openForDribbling(bodySource);
+    this.chunkSizes = chunkSizes;
+    this.chunkInterval = chunkInterval;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Starts dribbling the body in chunks of the given sizes, or in chunks of {@link
+   * #UNKNOWN_LENGTH_CHUNK_SIZE} until it runs out if the sizes are null.
+   */
+  static void start(
+      AsyncContext asyncContext,
+      InputStreamSource bodySource,
+      int[] chunkSizes,
+      long chunkInterval,
+      ScheduledExecutorService scheduler)
+      throws IOException {
+    final ServletOutputStream out = asyncContext.getResponse().getOutputStream();
+    final ChunkedDribbleWriter writer =
+        new ChunkedDribbleWriter(
+            asyncContext, out, bodySource, chunkSizes, chunkInterval, scheduler);
+    writer.onWritable.set(writer::scheduleNextChunk);
+    out.setWriteListener(writer);
+  }
+
+  /**
+   * Opens the body for reading a chunk at a time. A body still arriving from upstream is handed
+   * over without being retained, so dribbling it never holds more than a chunk in memory.
+   */
+  static InputStream openForDribbling(InputStreamSource bodySource) {
+    return bodySource instanceof PassThroughInputStreamSource passThrough
+        ? passThrough.passThrough()
+        : bodySource.getStream();
+  }
+
+  /**
+   * Works out the length of the body so that the chunk sizes can be decided before anything is
+   * sent, or returns {@link #UNKNOWN_LENGTH}. Byte arrays know their size, and files and blobs are
+   * skipped through, which is a seek rather than a copy. Bodies that are generated as they are
+   * written or still arriving from upstream could only be measured by producing them, so for those
+   * the Content-Length header is taken on trust if there is one.
+   */
+  static long lengthOf(Response response, InputStreamSource bodySource) throws IOException {
+    if (bodySource instanceof StreamSources.ByteArrayInputStreamSource bytes) {
+      return bytes.getLength();
+    }
+
+    if (!(bodySource instanceof WritableInputStreamSource)) {
+      return skipThrough(bodySource);
+    }
+
+    final HttpHeader contentLength = response.getHeaders().getHeader(CONTENT_LENGTH);
+    try {
+      return contentLength.isPresent()
+          ? Long.parseLong(contentLength.firstValue())
+          : UNKNOWN_LENGTH;
+    } catch (NumberFormatException e) {
+      return UNKNOWN_LENGTH;
+    }
+  }
+
+  private static long skipThrough(InputStreamSource bodySource) throws IOException {
+    try (InputStream stream = bodySource.getStream()) {
+      long length = 0;
+      while (true) {
+        long skipped = stream.skip(Long.MAX_VALUE);
+        if (skipped > 0) {
+          length += skipped;
+        } else if (stream.read() != -1) {
+          length++;
+        } else {
+          return length;
+        }
+      }
+    }
+  }
+
+  @Override
+  public void onWritePossible() {
+    runWhenWritable();
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    // Most likely the client went away before the dribble finished, which is a perfectly valid
+    // outcome, so just release the body and the request
+    finish();
+  }
+
+  @SuppressWarnings("FutureReturnValueIgnored")
+  private void scheduleNextChunk() {
+    if (reachedEnd || (chunkSizes != null && nextChunk == chunkSizes.length)) {
+      finish();
+      return;
+    }
+
+    scheduler.schedule(this::writeNextChunk, chunkInterval, MILLISECONDS);
+  }
+
+  private void writeNextChunk() {
+    try {
+      final int chunkSize =
+          chunkSizes != null ? chunkSizes[nextChunk++] : UNKNOWN_LENGTH_CHUNK_SIZE;
+      final byte[] chunk = body.readNBytes(chunkSize);
+      reachedEnd = chunkSizes == null && chunk.length < chunkSize;
+      out.write(chunk);
+      whenWritable(this::flushChunk);
+    } catch (IOException | RuntimeException e) {
+      onError(e);
+    }
+  }
+
+  private void flushChunk() {
+    try {
+      out.flush();
+      whenWritable(this::scheduleNextChunk);
+    } catch (IOException | RuntimeException e) {
+      onError(e);
+    }
+  }
+
+  private void whenWritable(Runnable next) {
+    onWritable.set(next);
+    if (out.isReady()) {
+      runWhenWritable();
+    }
+  }
+
+  private void runWhenWritable() {
+    final Runnable next = onWritable.getAndSet(null);
+    if (next != null) {
+      next.run();
+    }
+  }
+
+  private void finish() {
+    if (!finished.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      body.close();
+      // A body still arriving from upstream is only released when its source is closed
+      if (bodySource instanceof Closeable closeableSource) {
+        closeableSource.close();
+      }
+    } catch (IOException e) {
+      // well, we tried
+    }
+    asyncContext.complete();
+  }
+}
@@ -15,10 +15,14 @@
  */
 package com.github.tomakehurst.wiremock.jetty;
 
+import com.github.tomakehurst.wiremock.common.VirtualThreads;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.message.MessageStubRequestHandler;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
 
 public class JettyHttpServerFactory implements HttpServerFactory, DefaultFactory {
 
@@ -47,7 +51,28 @@ public class JettyHttpServerFactory implements HttpServerFactory, DefaultFactory
         adminRequestHandler,
         stubRequestHandler,
         settings,
-        new QueuedThreadPool(options.containerThreads()),
+        buildThreadPool(options),
         messageStubRequestHandler);
   }
+
+  private static ThreadPool buildThreadPool(Options options) {
+    final QueuedThreadPool threadPool = new QueuedThreadPool(options.containerThreads());
+    if (options.getVirtualThreadsEnabled()) {
+      final Optional<? extends Executor> virtualThreadsExecutor =
+          VirtualThreads.newVirtualThreadPerTaskExecutor("wiremock-request");
+      if (virtualThreadsExecutor.isPresent()) {
+        // Container threads still run the selectors, blocking request handling moves to
+        // virtual threads
+        threadPool.setVirtualThreadsExecutor(virtualThreadsExecutor.get());
+      } else {
+        options
+            .notifier()
+            .info(
+                "Virtual threads were requested but are not supported by this JVM, using "
+                    + options.containerThreads()
+                    + " container threads instead");
+      }
+    }
+    return threadPool;
+  }
 }
@@ -28,8 +28,10 @@ import static java.net.URLDecoder.decode;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
 import com.github.tomakehurst.wiremock.common.LocalNotifier;
 import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.common.WritableInputStreamSource;
 import com.github.tomakehurst.wiremock.core.FaultInjector;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.core.WireMockApp;
@@ -43,10 +45,13 @@ import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
 public class WireMockHandlerDispatchingServlet extends HttpServlet {
@@ -160,6 +165,8 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
     private final HttpServletRequest httpServletRequest;
     private final HttpServletResponse httpServletResponse;
+    private AsyncContext deferredAsyncContext;
+    private boolean completesLater;
 
     private ServletHttpResponder(
         HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
@@ -179,11 +186,40 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
       if (isAsyncSupportedAndDelayConfigured(response, httpServletRequest)) {
         respondAsync(request, response);
+      } else if (deferredAsyncContext != null) {
+        delayIfRequired(response.getInitialDelay());
+        completesLater = respondTo(request, response, deferredAsyncContext);
       } else {
         respondSync(request, response);
       }
     }
 
+    @Override
+    public Optional<Executor> deferResponse() {
+      if (!httpServletRequest.isAsyncSupported()) {
+        return Optional.empty();
+      }
+
+      // The async context is completed once the deferred task has run, unless responding has
+      // handed that on to a delayed or dribbled write
+      final AsyncContext asyncContext = httpServletRequest.startAsync();
+      asyncContext.setTimeout(0);
+      deferredAsyncContext = asyncContext;
+      return Optional.of(
+          task ->
+              asyncContext.start(
+                  () -> {
+                    LocalNotifier.set(notifier);
+                    try {
+                      task.run();
+                    } finally {
+                      if (!completesLater) {
+                        asyncContext.complete();
+                      }
+                    }
+                  }));
+    }
+
     private void respondSync(Request request, Response response) {
       delayIfRequired(response.getInitialDelay());
       respondTo(request, response);
@@ -208,13 +244,18 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
     @SuppressWarnings("FutureReturnValueIgnored")
     private void respondAsync(final Request request, final Response response) {
-      final AsyncContext asyncContext = httpServletRequest.startAsync();
+      final AsyncContext asyncContext =
+          deferredAsyncContext != null ? deferredAsyncContext : httpServletRequest.startAsync();
+      completesLater = true;
       scheduledExecutorService.schedule(
           () -> {
+            boolean completesItself = false;
             try {
-              respondTo(request, response);
+              completesItself = respondTo(request, response, asyncContext);
             } finally {
-              asyncContext.complete();
+              if (!completesItself) {
+                asyncContext.complete();
+              }
             }
           },
           response.getInitialDelay(),
@@ -222,9 +263,13 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
 
     private void respondTo(Request request, Response response) {
+      respondTo(request, response, null);
+    }
+
+    private boolean respondTo(Request request, Response response, AsyncContext asyncContext) {
       try {
         if (response.wasConfigured()) {
-          applyResponse(response, httpServletRequest, httpServletResponse);
+          return applyResponse(response, httpServletRequest, httpServletResponse, asyncContext);
         } else if (request.getMethod().equals(GET) && shouldForwardToFilesContext) {
           forwardToFilesContext(httpServletRequest, httpServletResponse, request);
         } else {
@@ -233,6 +278,7 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       } catch (Exception e) {
         throwUnchecked(e);
       }
+      return false;
     }
   }
 
@@ -240,12 +286,24 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       Response response,
       HttpServletRequest httpServletRequest,
       HttpServletResponse httpServletResponse) {
+    applyResponse(response, httpServletRequest, httpServletResponse, null);
+  }
+
+  /**
+   * Returns true if the body is being dribbled out asynchronously, in which case the async context
+   * will be completed once the last chunk has been written rather than by the caller.
+   */
+  private boolean applyResponse(
+      Response response,
+      HttpServletRequest httpServletRequest,
+      HttpServletResponse httpServletResponse,
+      AsyncContext asyncContext) {
     Fault fault = response.getFault();
     if (fault != null) {
       FaultInjector faultInjector = buildFaultInjector(httpServletRequest, httpServletResponse);
       fault.apply(faultInjector);
       httpServletResponse.addHeader(Fault.class.getName(), fault.name());
-      return;
+      return false;
     }
 
     httpServletResponse.setStatus(response.getStatus());
@@ -256,19 +314,26 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       }
     }
 
+    // Bodies generated as they are written, or still arriving from upstream, would have to be
+    // produced twice to measure them up front, so they're left for Jetty to frame instead
+    final InputStreamSource body = response.getBodyEntity().getStreamSource();
     if ((chunkedEncodingPolicy == NEVER
             || (chunkedEncodingPolicy == BODY_FILE && response.hasInlineBody()))
-        && httpServletResponse.getHeader(CONTENT_LENGTH) == null) {
+        && httpServletResponse.getHeader(CONTENT_LENGTH) == null
+        && !(body instanceof WritableInputStreamSource)) {
       httpServletResponse.setContentLength(response.getBodyEntity().getData().length);
     }
 
-    final InputStream bodyStream = response.getBodyEntity().getStreamSource().getStream();
-    if (response.shouldAddChunkedDribbleDelay()) {
-      writeAndTranslateExceptionsWithChunkedDribbleDelay(
-          httpServletResponse, bodyStream, response.getChunkedDribbleDelay());
+    if (response.shouldAddChunkedDribbleDelay() && asyncContext != null) {
+      return writeWithChunkedDribbleDelayAsynchronously(asyncContext, response, body);
+    } else if (response.shouldAddChunkedDribbleDelay()) {
+      writeAndTranslateExceptionsWithChunkedDribbleDelay(httpServletResponse, response, body);
+    } else if (body instanceof WritableInputStreamSource writableBody) {
+      writeAndTranslateExceptions(httpServletResponse, writableBody);
     } else {
-      writeAndTranslateExceptions(httpServletResponse, bodyStream);
+      writeAndTranslateExceptions(httpServletResponse, body.getStream());
     }
+    return false;
   }
 
   private FaultInjector buildFaultInjector(
@@ -292,29 +357,63 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
   }
 
-  private void writeAndTranslateExceptionsWithChunkedDribbleDelay(
-      HttpServletResponse httpServletResponse,
-      InputStream bodyStream,
-      ChunkedDribbleDelay chunkedDribbleDelay) {
+  private static void writeAndTranslateExceptions(
+      HttpServletResponse httpServletResponse, WritableInputStreamSource body) {
     try (ServletOutputStream out = httpServletResponse.getOutputStream()) {
-      byte[] body = bodyStream.readAllBytes();
-
-      if (body.length < 1) {
-        notifier.error("Cannot chunk dribble delay when no body set");
-        out.flush();
-        return;
-      }
-
-      byte[][] chunkedBody = BodyChunker.chunkBody(body, chunkedDribbleDelay.getNumberOfChunks());
+      body.writeTo(out);
+      out.flush();
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+  }
 
-      int chunkInterval = chunkedDribbleDelay.getTotalDuration() / chunkedBody.length;
+  private boolean writeWithChunkedDribbleDelayAsynchronously(
+      AsyncContext asyncContext, Response response, InputStreamSource body) {
+    final ChunkedDribbleDelay chunkedDribbleDelay = response.getChunkedDribbleDelay();
+    try {
+      final int[] chunkSizes = chunkSizesFor(response, body, chunkedDribbleDelay);
+      ChunkedDribbleWriter.start(
+          asyncContext,
+          body,
+          chunkSizes,
+          chunkIntervalFor(chunkSizes, chunkedDribbleDelay),
+          scheduledExecutorService);
+      return true;
+    } catch (IOException e) {
+      return throwUnchecked(e, Boolean.class);
+    }
+  }
 
-      for (byte[] bodyChunk : chunkedBody) {
-        Thread.sleep(chunkInterval);
-        out.write(bodyChunk);
-        out.flush();
+  private void writeAndTranslateExceptionsWithChunkedDribbleDelay(
+      HttpServletResponse httpServletResponse, Response response, InputStreamSource body) {
+    final ChunkedDribbleDelay chunkedDribbleDelay = response.getChunkedDribbleDelay();
+    try (ServletOutputStream out = httpServletResponse.getOutputStream()) {
+      final int[] chunkSizes = chunkSizesFor(response, body, chunkedDribbleDelay);
+      final long chunkInterval = chunkIntervalFor(chunkSizes, chunkedDribbleDelay);
+
+      try (InputStream bodyStream = ChunkedDribbleWriter.openForDribbling(body)) {
+        if (chunkSizes != null) {
+          for (int chunkSize : chunkSizes) {
+            Thread.sleep(chunkInterval);
+            out.write(bodyStream.readNBytes(chunkSize));
+            out.flush();
+          }
+        } else {
+          byte[] chunk;
+          do {
+            Thread.sleep(chunkInterval);
+            chunk = bodyStream.readNBytes(ChunkedDribbleWriter.UNKNOWN_LENGTH_CHUNK_SIZE);
+            out.write(chunk);
+            out.flush();
+          } while (chunk.length == ChunkedDribbleWriter.UNKNOWN_LENGTH_CHUNK_SIZE);
+        }
+      } finally {
+        if (body instanceof Closeable closeableBody) {
+          closeableBody.close();
+        }
       }
 
+      out.flush();
     } catch (IOException e) {
       throwUnchecked(e);
     } catch (InterruptedException ignored) {
@@ -323,6 +422,35 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     }
   }
 
+  /**
+   * Returns null if the length of the body can't be known without reading it, in which case it is
+   * sent in fixed-size chunks at the interval the requested number of chunks would have.
+   */
+  private int[] chunkSizesFor(
+      Response response, InputStreamSource body, ChunkedDribbleDelay chunkedDribbleDelay)
+      throws IOException {
+    final long length = ChunkedDribbleWriter.lengthOf(response, body);
+    if (length == ChunkedDribbleWriter.UNKNOWN_LENGTH) {
+      return null;
+    }
+
+    if (length < 1) {
+      notifier.error("Cannot chunk dribble delay when no body set");
+      return new int[0];
+    }
+
+    return BodyChunker.chunkSizes(length, chunkedDribbleDelay.getNumberOfChunks());
+  }
+
+  private static long chunkIntervalFor(int[] chunkSizes, ChunkedDribbleDelay chunkedDribbleDelay) {
+    if (chunkSizes == null) {
+      return chunkedDribbleDelay.getTotalDuration()
+          / Math.max(1, chunkedDribbleDelay.getNumberOfChunks());
+    }
+
+    return chunkSizes.length > 0 ? chunkedDribbleDelay.getTotalDuration() / chunkSizes.length : 0;
+  }
+
   private void forwardToFilesContext(
       HttpServletRequest httpServletRequest,
       HttpServletResponse httpServletResponse,